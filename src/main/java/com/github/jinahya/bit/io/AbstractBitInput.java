@@ -28,6 +28,7 @@ import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeInt;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeLong;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeShort;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned16;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned64;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned8;
 
 /**
@@ -48,6 +49,148 @@ public abstract class AbstractBitInput implements BitInput {
      */
     protected abstract int read() throws IOException;
 
+    /**
+     * Reads specified number of unsigned 8-bit integers into given array. The {@code read(byte[], int, int)} method of
+     * {@code AbstractBitInput} class invokes {@link #read()} for each byte. Subclasses are encouraged to override this
+     * method with a more efficient implementation.
+     *
+     * @param array  the array into which bytes are read.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of bytes to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected void read(final byte[] array, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            array[i] = (byte) read();
+        }
+    }
+
+    /**
+     * Skips specified number of octets. The {@code skipOctets(long)} method of {@code AbstractBitInput} class invokes
+     * {@link #read()} for each octet. Subclasses are encouraged to override this method with a more efficient
+     * implementation.
+     *
+     * @param count the number of octets to skip.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected void skipOctets(final long count) throws IOException {
+        for (long i = 0L; i < count; i++) {
+            read();
+        }
+    }
+
+    /**
+     * Marks the current position of the underlying source, if supported, so that a subsequent {@link #resetOctets()}
+     * rewinds the source to it. The {@code markOctets()} method of {@code AbstractBitInput} class returns {@code false}
+     * in which case octets read after a mark are kept in memory and replayed on reset.
+     *
+     * @return {@code true} if the underlying source has been marked; {@code false} if not supported.
+     * @throws IOException if an I/O error occurs.
+     * @see #resetOctets()
+     */
+    protected boolean markOctets() throws IOException {
+        return false;
+    }
+
+    /**
+     * Rewinds the underlying source to the position marked by the last successful {@link #markOctets()}. The {@code
+     * resetOctets()} method of {@code AbstractBitInput} class throws an {@link UnsupportedOperationException}.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see #markOctets()
+     */
+    protected void resetOctets() throws IOException {
+        throw new UnsupportedOperationException("resetting octets is not supported");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads an octet from the replay buffer, if any left, or via {@link #read()}, recording it while marked.
+     *
+     * @return an unsigned 8-bit integer.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int fetch() throws IOException {
+        if (replay == null) {
+            return read();
+        }
+        if (replayed < recorded) {
+            return replay[replayed++] & 0xFF;
+        }
+        final int octet = read();
+        record(1)[recorded++] = (byte) octet;
+        replayed++;
+        return octet;
+    }
+
+    /**
+     * Reads specified number of octets from the replay buffer, if any left, and via {@link #read(byte[], int, int)},
+     * recording them while marked.
+     *
+     * @param array  the array into which octets are read.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of octets to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void fetch(final byte[] array, int offset, int length) throws IOException {
+        if (replay == null) {
+            read(array, offset, length);
+            return;
+        }
+        final int replayable = Math.min(recorded - replayed, length);
+        System.arraycopy(replay, replayed, array, offset, replayable);
+        replayed += replayable;
+        offset += replayable;
+        length -= replayable;
+        if (length > 0) {
+            read(array, offset, length);
+            System.arraycopy(array, offset, record(length), recorded, length);
+            recorded += length;
+            replayed += length;
+        }
+    }
+
+    /**
+     * Discards specified number of octets from the replay buffer, if any left, and via {@link #skipOctets(long)}, or
+     * reads them into the replay buffer while marked.
+     *
+     * @param count the number of octets to discard.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void discard(long count) throws IOException {
+        if (replay == null) {
+            skipOctets(count);
+            return;
+        }
+        final int replayable = (int) Math.min(recorded - replayed, count);
+        replayed += replayable;
+        count -= replayable;
+        if (count > 0L) {
+            if (count > Integer.MAX_VALUE - recorded) {
+                throw new IOException("too many octets to record: " + count);
+            }
+            read(record((int) count), recorded, (int) count);
+            recorded += count;
+            replayed += count;
+        }
+    }
+
+    /**
+     * Makes the replay buffer to have room for specified number of octets and returns it.
+     *
+     * @param length the number of octets to record.
+     * @return the replay buffer.
+     */
+    private byte[] record(final int length) {
+        if (replay.length - recorded < length) {
+            final byte[] grown = new byte[Math.max(replay.length << 1, recorded + length)];
+            System.arraycopy(replay, 0, grown, 0, recorded);
+            replay = grown;
+        }
+        return replay;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -58,17 +201,7 @@ public abstract class AbstractBitInput implements BitInput {
      * @throws IOException if an I/O error occurs.
      */
     protected int unsigned8(final int size) throws IOException {
-        requireValidSizeUnsigned8(size);
-        if (available == 0) {
-            octet = read();
-            count++;
-            available = Byte.SIZE;
-        }
-        final int required = size - available;
-        if (required > 0) {
-            return (unsigned8(available) << required) | unsigned8(required);
-        }
-        return (octet >> (available -= size)) & ((1 << size) - 1);
+        return (int) unsigned64(requireValidSizeUnsigned8(size));
     }
 
     /**
@@ -79,25 +212,103 @@ public abstract class AbstractBitInput implements BitInput {
      * @throws IOException if an I/O error occurs.
      */
     protected int unsigned16(final int size) throws IOException {
-        requireValidSizeUnsigned16(size);
-        int value = 0x00;
-        final int quotient = size / Byte.SIZE;
-        for (int i = 0; i < quotient; i++) {
+        return (int) unsigned64(requireValidSizeUnsigned16(size));
+    }
+
+    /**
+     * Reads an unsigned value whose maximum size is {@value Long#SIZE}. Bits left in {@link #buffer} are taken first
+     * and each following octet is shifted in as a whole; only the last octet, if partially used, is kept in the buffer
+     * for subsequent reads. Two or more whole octets are read at once via {@link #read(byte[], int, int)}. No octet is
+     * read unless it is required for the value.
+     *
+     * @param size the number of bits for the value; between {@code 1} and {@value Long#SIZE}, both inclusive.
+     * @return an unsigned long value; the value is negative only if {@code size} is {@value Long#SIZE} and the most
+     * significant bit is set.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected long unsigned64(final int size) throws IOException {
+        requireValidSizeUnsigned64(size);
+        if (size <= available) {
+            return (buffer >>> (available -= size)) & (-1L >>> (Long.SIZE - size));
+        }
+        if (available == 0 && (size & 0x07) == 0) { // octet-aligned and whole octets
+            final int whole = size >> 3;
+            count += whole;
+            if (whole == 1) {
+                return fetch();
+            }
+            fetch(octets, 0, whole);
+            long value = 0L;
+            for (int i = 0; i < whole; i++) {
+                value <<= Byte.SIZE;
+                value |= octets[i] & 0xFF;
+            }
+            return value;
+        }
+        long value = available == 0 ? 0L : buffer & (-1L >>> (Long.SIZE - available));
+        int required = size - available;
+        available = 0;
+        final int whole = required / Byte.SIZE;
+        if (whole > 1) {
+            fetch(octets, 0, whole);
+            count += whole;
+            for (int i = 0; i < whole; i++) {
+                value <<= Byte.SIZE;
+                value |= octets[i] & 0xFF;
+            }
+            required -= whole * Byte.SIZE;
+        }
+        for (; required >= Byte.SIZE; required -= Byte.SIZE) {
             value <<= Byte.SIZE;
-            value |= unsigned8(Byte.SIZE);
+            value |= fetch();
+            count++;
         }
-        final int remainder = size % Byte.SIZE;
-        if (remainder > 0) {
-            value <<= remainder;
-            value |= unsigned8(remainder);
+        if (required > 0) {
+            buffer = fetch();
+            count++;
+            available = Byte.SIZE - required;
+            value <<= required;
+            value |= buffer >>> available;
         }
         return value;
     }
 
+    /**
+     * Reads specified number of 8-bit values into given array. All octets are read at once via {@link #read(byte[],
+     * int, int)}; when this input is not octet-aligned, each value is then composed of the bits left from the previous
+     * octet and the leading bits of the next one.
+     *
+     * @param array  the array into which values are read.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of values to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    void readBytes(final byte[] array, int offset, int length) throws IOException {
+        for (; available >= Byte.SIZE && length > 0; length--) { // octets peeked ahead
+            array[offset++] = (byte) unsigned64(Byte.SIZE);
+        }
+        if (length <= 0) {
+            return;
+        }
+        fetch(array, offset, length);
+        count += length;
+        if (available == 0) {
+            return;
+        }
+        final int shift = Byte.SIZE - available;
+        int carry = (int) buffer & ((1 << available) - 1);
+        for (int i = offset; i < offset + length; i++) {
+            final int octet = array[i] & 0xFF;
+            array[i] = (byte) ((carry << shift) | (octet >> available));
+            carry = octet & ((1 << available) - 1);
+        }
+        buffer = carry;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     @Override
     public boolean readBoolean() throws IOException {
-        return readInt(true, 1) == 1;
+        return unsigned64(1) == 1L;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -114,59 +325,145 @@ public abstract class AbstractBitInput implements BitInput {
     @Override
     public int readInt(final boolean unsigned, final int size) throws IOException {
         requireValidSizeInt(unsigned, size);
-        if (!unsigned) {
-            int value = 0 - readInt(true, 1);
-            final int usize = size - 1;
-            if (usize > 0) {
-                value <<= usize;
-                value |= readInt(true, usize);
-            }
+        final int value = (int) unsigned64(size);
+        if (unsigned) {
             return value;
         }
-        int value = 0x00;
-        final int quotient = size / Short.SIZE;
-        for (int i = 0; i < quotient; i++) {
-            value <<= Short.SIZE;
-            value |= unsigned16(Short.SIZE);
-        }
-        final int remainder = size % Short.SIZE;
-        if (remainder > 0) {
-            value <<= remainder;
-            value |= unsigned16(remainder);
-        }
-        return value;
+        final int shift = Integer.SIZE - size;
+        return value << shift >> shift;
     }
 
     @Override
     public long readLong(final boolean unsigned, final int size) throws IOException {
         requireValidSizeLong(unsigned, size);
-        if (!unsigned) {
-            long value = 0L - readLong(true, 1);
-            final int usize = size - 1;
-            if (usize > 0) {
-                value <<= usize;
-                value |= readLong(true, usize);
-            }
+        final long value = unsigned64(size);
+        if (unsigned) {
             return value;
         }
-        long value = 0x00L;
-        final int quotient = size / Integer.SIZE;
-        for (int i = 0; i < quotient; i++) {
-            value <<= Integer.SIZE;
-            value |= readInt(false, Integer.SIZE) & 0xFFFFFFFFL;
+        final int shift = Long.SIZE - size;
+        return value << shift >> shift;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public char readChar(final int size) throws IOException {
+        return (char) readInt(true, requireValidSizeChar(size));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code peekInt(boolean, int)} method of {@code AbstractBitInput} class reads octets ahead into
+     * the bit buffer, as many as required for the value, and leaves them there for subsequent reads.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int peekInt(final boolean unsigned, final int size) throws IOException {
+        requireValidSizeInt(unsigned, size);
+        while (available < size) {
+            final int octet = fetch(); // may throw an EOFException; leaves all fields intact
+            buffer <<= Byte.SIZE;
+            buffer |= octet;
+            count++;
+            available += Byte.SIZE;
+        }
+        final int value = (int) (buffer >>> (available - size));
+        final int shift = Integer.SIZE - size;
+        return unsigned ? (value << shift >>> shift) : (value << shift >> shift);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code AbstractBitInput} class discards available bits first and
+     * skips whole octets via {@link #skipOctets(long)} unless they need to be kept for a {@link #reset()}.
+     *
+     * @param bits {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(long bits) throws IOException {
+        if (bits < 0L) {
+            throw new IllegalArgumentException("bits(" + bits + ") < 0");
         }
-        final int remainder = size % Integer.SIZE;
+        if (bits <= available) {
+            available -= bits;
+            return;
+        }
+        bits -= available;
+        available = 0;
+        final long whole = bits >> 3;
+        if (whole > 0L) {
+            discard(whole);
+            count += whole;
+        }
+        final int remainder = (int) (bits & 0x07);
         if (remainder > 0) {
-            value <<= remainder;
-            value |= readInt(true, remainder);
+            unsigned64(remainder);
         }
-        return value;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code position()} method of {@code AbstractBitInput} class returns the number of octets read
+     * so far, in bits, less the number of bits still available.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
-    public char readChar(final int size) throws IOException {
-        return (char) readInt(true, requireValidSizeChar(size));
+    public long position() {
+        return count * Byte.SIZE - available;
+    }
+
+    /**
+     * {@inheritDoc} The {@code mark()} method of {@code AbstractBitInput} class marks the underlying source via {@link
+     * #markOctets()} and, if not supported, starts keeping octets read from now on in memory.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void mark() throws IOException {
+        if (replay != null && replayed < recorded) { // still replaying; keep the octets not replayed yet
+            System.arraycopy(replay, replayed, replay, 0, recorded - replayed);
+            recorded -= replayed;
+            replayed = 0;
+        } else {
+            replay = null;
+            recorded = 0;
+            replayed = 0;
+            if (!markOctets()) {
+                replay = new byte[Long.SIZE];
+            }
+        }
+        markedBuffer = buffer;
+        markedAvailable = available;
+        markedCount = count;
+    }
+
+    /**
+     * {@inheritDoc} The {@code reset()} method of {@code AbstractBitInput} class rewinds the underlying source via
+     * {@link #resetOctets()} or replays octets kept in memory since the mark.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void reset() throws IOException {
+        if (markedCount < 0L) {
+            throw new IllegalStateException("not marked");
+        }
+        if (replay == null) {
+            resetOctets();
+        } else {
+            replayed = 0;
+        }
+        buffer = markedBuffer;
+        available = markedAvailable;
+        count = markedCount;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -175,31 +472,81 @@ public abstract class AbstractBitInput implements BitInput {
         if (bytes <= 0) {
             throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
         }
-        long bits = 0; // number of bits to be discarded
-        if (available > 0) {
-            bits += available;
-            readInt(true, available);
-        }
-        for (; count % bytes > 0; bits += Byte.SIZE) {
-            readInt(true, Byte.SIZE);
-        }
+        final long unit = bytes * (long) Byte.SIZE;
+        final long bits = (unit - (count * Byte.SIZE - available) % unit) % unit; // number of bits to be discarded
+        skip(bits);
         return bits;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * The current octet of read bits.
+     * Discards all bits read ahead, the position and the mark, so that this instance can be reused, as if newly
+     * created, for a new underlying source. Octets already read ahead from the previous source are lost.
      */
-    int octet;
+    public void clear() {
+        buffer = 0L;
+        available = 0;
+        count = 0L;
+        markedCount = -1L;
+        replay = null;
+        recorded = 0;
+        replayed = 0;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * The number of available bits in {@link #octet} for reading..
+     * An array for reading whole octets at once.
+     */
+    private final byte[] octets = new byte[Long.SIZE / Byte.SIZE];
+
+    /**
+     * The bit buffer of read octets. Only the lower {@link #available} bits are valid for reading.
+     */
+    long buffer;
+
+    /**
+     * The number of available bits in {@link #buffer} for reading. The value may exceed {@value Byte#SIZE} when octets
+     * have been read ahead by {@link #peekInt(boolean, int)}.
      */
     int available;
 
     /**
-     * The number of octets read so far.
+     * The number of octets read so far, including those read ahead.
      */
     long count;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The value of {@link #buffer} at the last mark.
+     */
+    private long markedBuffer;
+
+    /**
+     * The value of {@link #available} at the last mark.
+     */
+    private int markedAvailable;
+
+    /**
+     * The value of {@link #count} at the last mark; {@code -1L} if not marked.
+     */
+    private long markedCount = -1L;
+
+    /**
+     * The buffer of octets read since the last mark when the underlying source can't be marked; {@code null} if not
+     * used.
+     */
+    private byte[] replay;
+
+    /**
+     * The number of octets recorded in {@link #replay}.
+     */
+    private int recorded;
+
+    /**
+     * The number of octets in {@link #replay} consumed since the last mark or reset.
+     */
+    private int replayed;
 }
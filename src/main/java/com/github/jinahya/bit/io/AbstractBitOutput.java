@@ -28,6 +28,7 @@ import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeInt;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeLong;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeShort;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned16;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned64;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned8;
 
 /**
@@ -48,6 +49,22 @@ public abstract class AbstractBitOutput implements BitOutput {
      */
     protected abstract void write(int value) throws IOException;
 
+    /**
+     * Consumes specified number of unsigned 8-bit integers in given array. The {@code write(byte[], int, int)} method
+     * of {@code AbstractBitOutput} class invokes {@link #write(int)} for each byte. Subclasses are encouraged to
+     * override this method with a more efficient implementation.
+     *
+     * @param array  the array whose bytes are consumed.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of bytes to consume.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected void write(final byte[] array, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            write(array[i] & 0xFF);
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -57,23 +74,8 @@ public abstract class AbstractBitOutput implements BitOutput {
      * @param value the value to write
      * @throws IOException if an I/O error occurs.
      */
-    protected void unsigned8(final int size, int value) throws IOException {
-        requireValidSizeUnsigned8(size);
-        final int required = size - available;
-        if (required > 0) {
-            unsigned8(available, value >> required);
-            unsigned8(required, value);
-            return;
-        }
-        octet <<= size;
-        octet |= (value & ((1 << size) - 1));
-        available -= size;
-        if (available == 0) {
-            write(octet);
-            count++;
-            octet = 0x00;
-            available = Byte.SIZE;
-        }
+    protected void unsigned8(final int size, final int value) throws IOException {
+        unsigned64(requireValidSizeUnsigned8(size), value);
     }
 
     /**
@@ -84,21 +86,95 @@ public abstract class AbstractBitOutput implements BitOutput {
      * @throws IOException if an I/O error occurs
      */
     protected void unsigned16(final int size, final int value) throws IOException {
-        requireValidSizeUnsigned16(size);
-        final int quotient = size / Byte.SIZE;
-        final int remainder = size % Byte.SIZE;
-        if (remainder > 0) {
-            unsigned8(remainder, value >> (quotient * Byte.SIZE));
+        unsigned64(requireValidSizeUnsigned16(size), value);
+    }
+
+    /**
+     * Writes an unsigned value whose size is {@value Long#SIZE} in maximum. Given bits are shifted into the pending
+     * bits of {@link #buffer} and every octet completed by them is written right away, at once via {@link
+     * #write(byte[], int, int)} if there are two or more of them; only the bits of the last incomplete octet are kept
+     * in the buffer.
+     *
+     * @param size  the number of lower bits to write; between {@code 1} and {@value Long#SIZE}, both inclusive.
+     * @param value the value to write
+     * @throws IOException if an I/O error occurs
+     */
+    protected void unsigned64(final int size, final long value) throws IOException {
+        requireValidSizeUnsigned64(size);
+        if (available == Byte.SIZE && (size & 0x07) == 0) { // octet-aligned and whole octets
+            final int whole = size >> 3;
+            if (whole == 1) {
+                write((int) value & 0xFF);
+            } else {
+                for (int i = 0, shift = size - Byte.SIZE; i < whole; i++, shift -= Byte.SIZE) {
+                    octets[i] = (byte) (value >>> shift);
+                }
+                write(octets, 0, whole);
+            }
+            count += whole;
+            return;
+        }
+        if (size < available) {
+            buffer <<= size;
+            buffer |= value & (-1L >>> (Long.SIZE - size));
+            available -= size;
+            return;
+        }
+        int remaining = size - available;
+        final int first = (int) ((buffer << available) | ((value >>> remaining) & ((1 << available) - 1))) & 0xFF;
+        if (remaining >= Byte.SIZE) {
+            octets[0] = (byte) first;
+            int length = 1;
+            for (; remaining >= Byte.SIZE; length++) {
+                remaining -= Byte.SIZE;
+                octets[length] = (byte) (value >>> remaining);
+            }
+            write(octets, 0, length);
+            count += length;
+        } else {
+            write(first);
+            count++;
+        }
+        buffer = value & ((1 << remaining) - 1);
+        available = Byte.SIZE - remaining;
+    }
+
+    /**
+     * Writes specified number of 8-bit values in given array. When this output is octet-aligned all values are written
+     * at once via {@link #write(byte[], int, int)}; otherwise each value is split across two octets and completed
+     * octets are written in chunks.
+     *
+     * @param array  the array whose values are written.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of values to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeBytes(final byte[] array, final int offset, final int length) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        if (available == Byte.SIZE) {
+            write(array, offset, length);
+            count += length;
+            return;
         }
-        for (int i = quotient - 1; i >= 0; i--) {
-            unsigned8(Byte.SIZE, value >> (Byte.SIZE * i));
+        final int pending = Byte.SIZE - available;
+        for (int i = offset; i < offset + length; ) {
+            final int chunk = Math.min(octets.length, offset + length - i);
+            for (int j = 0; j < chunk; j++, i++) {
+                final int value = array[i] & 0xFF;
+                octets[j] = (byte) ((buffer << available) | (value >> pending));
+                buffer = value & ((1 << pending) - 1);
+            }
+            write(octets, 0, chunk);
+            count += chunk;
         }
     }
 
     // -----------------------------------------------------------------------------------------------------------------
     @Override
     public void writeBoolean(final boolean value) throws IOException {
-        writeInt(true, 1, value ? 1 : 0);
+        unsigned64(1, value ? 1L : 0L);
     }
 
     @Override
@@ -113,28 +189,12 @@ public abstract class AbstractBitOutput implements BitOutput {
 
     @Override
     public void writeInt(final boolean unsigned, final int size, final int value) throws IOException {
-        requireValidSizeInt(unsigned, size);
-        final int quotient = size / Short.SIZE;
-        final int remainder = size % Short.SIZE;
-        if (remainder > 0) {
-            unsigned16(remainder, value >> (quotient * Short.SIZE));
-        }
-        for (int i = Short.SIZE * (quotient - 1); i >= 0; i -= Short.SIZE) {
-            unsigned16(Short.SIZE, value >> i);
-        }
+        unsigned64(requireValidSizeInt(unsigned, size), value);
     }
 
     @Override
     public void writeLong(final boolean unsigned, final int size, final long value) throws IOException {
-        requireValidSizeLong(unsigned, size);
-        final int quotient = size / Integer.SIZE;
-        final int remainder = size % Integer.SIZE;
-        if (remainder > 0) {
-            writeInt(false, remainder, (int) (value >> (quotient * Integer.SIZE)));
-        }
-        for (int i = Integer.SIZE * (quotient - 1); i >= 0; i -= Integer.SIZE) {
-            writeInt(false, Integer.SIZE, (int) (value >> i));
-        }
+        unsigned64(requireValidSizeLong(unsigned, size), value);
     }
 
     @Override
@@ -142,6 +202,17 @@ public abstract class AbstractBitOutput implements BitOutput {
         writeInt(true, requireValidSizeChar(size), value);
     }
 
+    /**
+     * {@inheritDoc} The {@code position()} method of {@code AbstractBitOutput} class returns the number of octets
+     * written so far, in bits, plus the number of pending bits.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return count * Byte.SIZE + (Byte.SIZE - available);
+    }
+
     @Override
     public long align(final int bytes) throws IOException {
         if (bytes <= 0) {
@@ -150,10 +221,10 @@ public abstract class AbstractBitOutput implements BitOutput {
         long bits = 0;
         if (available < Byte.SIZE) {
             bits += available;
-            writeInt(true, available, 0x00);
+            unsigned64(available, 0L);
         }
         for (; count % bytes > 0; bits += Byte.SIZE) {
-            writeInt(true, Byte.SIZE, 0x00);
+            unsigned64(Byte.SIZE, 0L);
         }
         return bits;
     }
@@ -161,12 +232,29 @@ public abstract class AbstractBitOutput implements BitOutput {
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * The current octet of written bits.
+     * Discards all pending bits and the position so that this instance can be reused, as if newly created, for a new
+     * underlying target. Pending bits not {@link #align(int) aligned} yet are lost.
+     */
+    public void clear() {
+        buffer = 0L;
+        available = Byte.SIZE;
+        count = 0L;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An array for writing whole octets at once.
+     */
+    private final byte[] octets = new byte[Long.SIZE / Byte.SIZE];
+
+    /**
+     * The bit buffer of pending bits. Only the lower {@code Byte.SIZE - available} bits are valid.
      */
-    private int octet;
+    private long buffer;
 
     /**
-     * The number of available bits in {@link #octet} for writing.
+     * The number of bits available in the current octet for writing.
      */
     private int available = Byte.SIZE;
 
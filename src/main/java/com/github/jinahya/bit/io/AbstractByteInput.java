@@ -20,6 +20,8 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.IOException;
+
 /**
  * An abstract class for implementing {@link ByteInput}.
  *
@@ -40,6 +42,71 @@ public abstract class AbstractByteInput<T> implements ByteInput {
         this.source = source;
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads specified number of bytes into given array. The {@code read(byte[], int, int)} method of {@code
+     * AbstractByteInput} class invokes {@link #read()} for each byte. Subclasses are encouraged to override this method
+     * with a more efficient implementation.
+     *
+     * @param array  the array into which bytes are read.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of bytes to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void read(final byte[] array, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            array[i] = (byte) read();
+        }
+    }
+
+    /**
+     * Skips specified number of bytes. The {@code skip(long)} method of {@code AbstractByteInput} class invokes {@link
+     * #read()} for each byte. Subclasses are encouraged to override this method with a more efficient implementation.
+     *
+     * @param count the number of bytes to skip.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void skip(final long count) throws IOException {
+        for (long i = 0L; i < count; i++) {
+            read();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Tells whether this byte input supports {@link #mark()} and {@link #reset()}. The {@code markSupported()} method
+     * of {@code AbstractByteInput} class returns {@code false}.
+     *
+     * @return {@code true} if supported; {@code false} otherwise.
+     */
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Marks the current position of the source. The {@code mark()} method of {@code AbstractByteInput} class throws an
+     * {@link UnsupportedOperationException}.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see #markSupported()
+     */
+    public void mark() throws IOException {
+        throw new UnsupportedOperationException("mark is not supported");
+    }
+
+    /**
+     * Rewinds the source to the last marked position. The {@code reset()} method of {@code AbstractByteInput} class
+     * throws an {@link UnsupportedOperationException}.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see #markSupported()
+     */
+    public void reset() throws IOException {
+        throw new UnsupportedOperationException("reset is not supported");
+    }
+
     // ---------------------------------------------------------------------------------------------------------- source
 
     /**
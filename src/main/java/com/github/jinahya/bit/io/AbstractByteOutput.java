@@ -20,6 +20,8 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.IOException;
+
 /**
  * An abstract class for implementing {@link ByteOutput}.
  *
@@ -40,6 +42,24 @@ public abstract class AbstractByteOutput<T> implements ByteOutput {
         this.target = target;
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified number of bytes from given array. The {@code write(byte[], int, int)} method of {@code
+     * AbstractByteOutput} class invokes {@link #write(int)} for each byte. Subclasses are encouraged to override this
+     * method with a more efficient implementation.
+     *
+     * @param array  the array whose bytes are written.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of bytes to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final byte[] array, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            write(array[i] & 0xFF);
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------------------- target
 
     /**
@@ -0,0 +1,200 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeByte;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeChar;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeInt;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeLong;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeShort;
+
+/**
+ * An abstract class for bit inputs which address their storage with a bit index and extract each value from a single
+ * 64-bit word. Subclasses implement only {@link #peek64(int)} and keep {@link #index}, {@link #limit} and {@link
+ * #origin} up to date with their storage.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see AbstractWordBitOutput
+ */
+abstract class AbstractWordBitInput implements BitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns an unsigned value of specified number of bits at {@link #index} without advancing it. This method is
+     * invoked only when at least {@code size} bits are left before {@link #limit}.
+     *
+     * @param size the number of bits; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    abstract long peek64(int size) throws IOException;
+
+    /**
+     * Reads an unsigned value of specified number of bits.
+     *
+     * @param size the number of bits; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IOException if an I/O error occurs; an {@link EOFException} if less than {@code size} bits are left.
+     */
+    private long unsigned64(final int size) throws IOException {
+        if (index + size > limit) {
+            throw new EOFException();
+        }
+        final long value = peek64(size);
+        index += size;
+        return value;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public boolean readBoolean() throws IOException {
+        return unsigned64(1) == 1L;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public byte readByte(final boolean unsigned, final int size) throws IOException {
+        return (byte) readInt(unsigned, requireValidSizeByte(unsigned, size));
+    }
+
+    @Override
+    public short readShort(final boolean unsigned, final int size) throws IOException {
+        return (short) readInt(unsigned, requireValidSizeShort(unsigned, size));
+    }
+
+    @Override
+    public int readInt(final boolean unsigned, final int size) throws IOException {
+        requireValidSizeInt(unsigned, size);
+        final int value = (int) unsigned64(size);
+        if (unsigned) {
+            return value;
+        }
+        final int shift = Integer.SIZE - size;
+        return value << shift >> shift;
+    }
+
+    @Override
+    public long readLong(final boolean unsigned, final int size) throws IOException {
+        requireValidSizeLong(unsigned, size);
+        final long value = unsigned64(size);
+        if (unsigned) {
+            return value;
+        }
+        final int shift = Long.SIZE - size;
+        return value << shift >> shift;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public char readChar(final int size) throws IOException {
+        return (char) readInt(true, requireValidSizeChar(size));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public int peekInt(final boolean unsigned, final int size) throws IOException {
+        requireValidSizeInt(unsigned, size);
+        if (index + size > limit) {
+            throw new EOFException();
+        }
+        final int value = (int) peek64(size);
+        if (unsigned) {
+            return value;
+        }
+        final int shift = Integer.SIZE - size;
+        return value << shift >> shift;
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code AbstractWordBitInput} class just advances the bit index
+     * and, without consuming anything, throws an {@link EOFException} if less than {@code bits} bits are left.
+     *
+     * @param bits {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(final long bits) throws IOException {
+        if (bits < 0L) {
+            throw new IllegalArgumentException("bits(" + bits + ") < 0");
+        }
+        if (bits > limit - index) {
+            throw new EOFException();
+        }
+        index += bits;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public long position() {
+        return index - origin;
+    }
+
+    @Override
+    public void mark() throws IOException {
+        mark = position();
+    }
+
+    @Override
+    public void reset() throws IOException {
+        if (mark < 0L) {
+            throw new IllegalStateException("not marked");
+        }
+        index = origin + mark;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
+        }
+        final long unit = bytes * (long) Byte.SIZE;
+        final long bits = (unit - position() % unit) % unit;
+        skip(bits);
+        return bits;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The index of the next bit to read in the storage.
+     */
+    long index;
+
+    /**
+     * The index, in the storage, following the last bit to read.
+     */
+    long limit;
+
+    /**
+     * The index, in the storage, of the bit at the position {@code 0}; negative once bits read are discarded.
+     */
+    long origin;
+
+    /**
+     * The marked position; {@code -1} if not marked.
+     */
+    long mark = -1L;
+}
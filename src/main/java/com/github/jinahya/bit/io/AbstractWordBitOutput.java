@@ -0,0 +1,128 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeByte;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeChar;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeInt;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeLong;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeShort;
+
+/**
+ * An abstract class for bit outputs which address their storage with a bit index and store each value as a single
+ * 64-bit word. Subclasses implement only {@link #put(int, long)} and keep {@link #index} and {@link #origin} up to
+ * date with their storage.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see AbstractWordBitInput
+ */
+abstract class AbstractWordBitOutput implements BitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Stores the lower specified number of bits of given value at {@link #index} without advancing it. Bits following
+     * the stored ones in the same byte are zeros.
+     *
+     * @param size  the number of bits; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param value the value whose lower {@code size} bits are stored.
+     * @throws IOException if less than {@code size} bits are left in the storage or an I/O error occurs.
+     */
+    abstract void put(int size, long value) throws IOException;
+
+    /**
+     * Writes the lower specified number of bits of given value.
+     *
+     * @param size  the number of bits; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param value the value whose lower {@code size} bits are written.
+     * @throws IOException if less than {@code size} bits are left in the storage or an I/O error occurs.
+     */
+    private void unsigned64(final int size, final long value) throws IOException {
+        put(size, value);
+        index += size;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public void writeBoolean(final boolean value) throws IOException {
+        unsigned64(1, value ? 1L : 0L);
+    }
+
+    @Override
+    public void writeByte(final boolean unsigned, final int size, final byte value) throws IOException {
+        writeInt(unsigned, requireValidSizeByte(unsigned, size), value);
+    }
+
+    @Override
+    public void writeShort(final boolean unsigned, final int size, final short value) throws IOException {
+        writeInt(unsigned, requireValidSizeShort(unsigned, size), value);
+    }
+
+    @Override
+    public void writeInt(final boolean unsigned, final int size, final int value) throws IOException {
+        unsigned64(requireValidSizeInt(unsigned, size), value);
+    }
+
+    @Override
+    public void writeLong(final boolean unsigned, final int size, final long value) throws IOException {
+        unsigned64(requireValidSizeLong(unsigned, size), value);
+    }
+
+    @Override
+    public void writeChar(final int size, final char value) throws IOException {
+        writeInt(true, requireValidSizeChar(size), value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public long position() {
+        return index - origin;
+    }
+
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
+        }
+        final long unit = bytes * (long) Byte.SIZE;
+        final long bits = (unit - position() % unit) % unit;
+        for (long remaining = bits; remaining > 0L; ) {
+            final int size = (int) Math.min(remaining, Long.SIZE);
+            unsigned64(size, 0L);
+            remaining -= size;
+        }
+        return bits;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The index of the next bit to write in the storage.
+     */
+    long index;
+
+    /**
+     * The index, in the storage, of the bit at the position {@code 0}.
+     */
+    long origin;
+}
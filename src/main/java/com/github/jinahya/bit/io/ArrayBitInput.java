@@ -0,0 +1,88 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.jinahya.bit.io.RandomAccessBitReader.word;
+
+/**
+ * A bit input reading bits directly from an array of bytes. Unlike {@link DefaultBitInput} with an {@link
+ * ArrayByteInput}, this class keeps the array and the bit index as its own fields and extracts each value from a
+ * single 64-bit word without any per-byte virtual call.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see ArrayBitOutput
+ */
+public final class ArrayBitInput extends AbstractWordBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given source.
+     *
+     * @param source the array from which bits are read.
+     */
+    public ArrayBitInput(final byte[] source) {
+        super();
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        this.limit = source.length * (long) Byte.SIZE;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reuses this instance, as if newly created, for given source.
+     *
+     * @param source the new array from which bits are read.
+     * @return this instance.
+     */
+    public ArrayBitInput reuse(final byte[] source) {
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        limit = source.length * (long) Byte.SIZE;
+        index = 0L;
+        mark = -1L;
+        return this;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    long peek64(final int size) {
+        final int octet = (int) (index >> 3);
+        final int shift = (int) index & 7;
+        long value = word(source, octet) << shift;
+        if (shift + size > Long.SIZE) {
+            value |= (source[octet + Long.SIZE / Byte.SIZE] & 0xFFL) >>> (Byte.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - size);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The array from which bits are read.
+     */
+    private byte[] source;
+}
@@ -0,0 +1,116 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * A bit output writing bits directly to an array of bytes. Unlike {@link DefaultBitOutput} with an {@link
+ * ArrayByteOutput}, this class keeps the array and the bit index as its own fields and stores each value as a single
+ * 64-bit word without any per-byte virtual call. Bits following the last written one in the same byte are always
+ * zeros.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see ArrayBitInput
+ */
+public final class ArrayBitOutput extends AbstractWordBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given target.
+     *
+     * @param target the array to which bits are written.
+     */
+    public ArrayBitOutput(final byte[] target) {
+        super();
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        this.target = target;
+        this.limit = target.length * (long) Byte.SIZE;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reuses this instance, as if newly created, for given target.
+     *
+     * @param target the new array to which bits are written.
+     * @return this instance.
+     */
+    public ArrayBitOutput reuse(final byte[] target) {
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        this.target = target;
+        limit = target.length * (long) Byte.SIZE;
+        index = 0L;
+        return this;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void put(final int size, final long value) throws IOException {
+        if (index + size > limit) {
+            throw new IOException("no room for " + size + " bit(s); index: " + index + ", limit: " + limit);
+        }
+        final int octet = (int) (index >> 3);
+        final int shift = (int) index & 7;
+        final int tail = shift + size - Long.SIZE; // the number of bits spilling to the ninth byte
+        if (tail > 0) {
+            store(octet, shift, size - tail, value >>> tail);
+            target[octet + Long.SIZE / Byte.SIZE] = (byte) (value << (Byte.SIZE - tail));
+        } else {
+            store(octet, shift, size, value);
+        }
+    }
+
+    /**
+     * Stores specified bits, following the leading bits of the byte at specified index, and zeros for the rest of
+     * their last byte.
+     *
+     * @param octet the index of the first byte.
+     * @param shift the number of leading bits of the first byte to preserve.
+     * @param size  the number of bits to write; {@code shift + size} is not greater than {@value Long#SIZE}.
+     * @param value the value whose lower {@code size} bits are written.
+     */
+    private void store(final int octet, final int shift, final int size, final long value) {
+        final int end = shift + size;
+        final long word = ((long) target[octet] << (Long.SIZE - Byte.SIZE) & ~(-1L >>> shift))
+                          | (value << (Long.SIZE - size) >>> shift);
+        for (int i = 0, bytes = (end + 7) >> 3; i < bytes; i++) {
+            target[octet + i] = (byte) (word >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The array to which bits are written.
+     */
+    private byte[] target;
+
+    /**
+     * The number of bits in {@link #target}.
+     */
+    private long limit;
+}
@@ -68,6 +68,11 @@ public class ArrayByteInput extends AbstractByteInput<byte[]> {
                 return super.read();
             }
 
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+
             @Override
             public void setSource(final byte[] source) {
                 throw new UnsupportedOperationException();
@@ -106,6 +111,92 @@ public class ArrayByteInput extends AbstractByteInput<byte[]> {
         return source[index++] & 0xFF;
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code ArrayByteInput} class copies as many bytes as
+     * available in {@code source} at once and falls back to {@link #read()} whenever no bytes are available so that
+     * subclasses refilling the {@code source} in {@link #read()} keep working.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, int offset, int length) throws IOException {
+        while (length > 0) {
+            final int available = source == null || index < 0 ? 0 : source.length - index;
+            if (available <= 0) {
+                array[offset++] = (byte) read();
+                length--;
+                continue;
+            }
+            final int copied = Math.min(available, length);
+            System.arraycopy(source, index, array, offset, copied);
+            index += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code ArrayByteInput} class advances the {@code index} by as many
+     * bytes as available in {@code source} at once and falls back to {@link #read()} whenever no bytes are available.
+     *
+     * @param count {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(long count) throws IOException {
+        while (count > 0L) {
+            final int available = source == null || index < 0 ? 0 : source.length - index;
+            if (available <= 0) {
+                read();
+                count--;
+                continue;
+            }
+            final int skipped = (int) Math.min(available, count);
+            index += skipped;
+            count -= skipped;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code markSupported()} method of {@code ArrayByteInput} class returns {@code true}.
+     * Subclasses replacing the {@code source} while reading should override this method to return {@code false}.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} The {@code mark()} method of {@code ArrayByteInput} class stores the current {@code index}.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void mark() throws IOException {
+        mark = index;
+    }
+
+    /**
+     * {@inheritDoc} The {@code reset()} method of {@code ArrayByteInput} class moves the {@code index} back to the
+     * marked one.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void reset() throws IOException {
+        if (mark < 0) {
+            throw new IllegalStateException("not marked");
+        }
+        index = mark;
+    }
+
     // ---------------------------------------------------------------------------------------------------------- source
     @Override
     public ArrayByteInput source(final byte[] target) {
@@ -150,4 +241,9 @@ public class ArrayByteInput extends AbstractByteInput<byte[]> {
      * The index in the {@code source} to read.
      */
     int index;
+
+    /**
+     * The marked index; {@code -1} if not marked.
+     */
+    private int mark = -1;
 }
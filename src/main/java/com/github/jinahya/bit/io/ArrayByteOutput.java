@@ -63,6 +63,25 @@ public class ArrayByteOutput extends AbstractByteOutput<byte[]> {
                 }
             }
 
+            @Override
+            public void write(final byte[] array, int offset, int remaining) throws IOException {
+                if (target == null) {
+                    target = new byte[length];
+                    index = 0;
+                }
+                while (remaining > 0) {
+                    final int copied = Math.min(target.length - index, remaining);
+                    System.arraycopy(array, offset, target, index, copied);
+                    index += copied;
+                    offset += copied;
+                    remaining -= copied;
+                    if (index == target.length) {
+                        stream.write(target);
+                        index = 0;
+                    }
+                }
+            }
+
             @Override
             public void setTarget(final byte[] target) {
                 throw new UnsupportedOperationException();
@@ -130,6 +149,32 @@ public class ArrayByteOutput extends AbstractByteOutput<byte[]> {
         target[index++] = (byte) value;
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code ArrayByteOutput} class copies as many bytes as
+     * the {@code target} can hold at once and falls back to {@link #write(int)} whenever no space is left.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, int offset, int length) throws IOException {
+        while (length > 0) {
+            final int space = target == null || index < 0 ? 0 : target.length - index;
+            if (space <= 0) {
+                write(array[offset++] & 0xFF);
+                length--;
+                continue;
+            }
+            final int copied = Math.min(space, length);
+            System.arraycopy(array, offset, target, index, copied);
+            index += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------------------- target
 
     /**
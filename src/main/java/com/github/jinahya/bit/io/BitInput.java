@@ -24,6 +24,9 @@ import java.io.IOException;
 
 /**
  * An interface for reading arbitrary length of bits.
+ * <p>
+ * Methods marked {@code @since 2.0.0} were added to this interface in version {@code 2.0.0}, which breaks classes
+ * implementing this interface directly; such classes should extend {@link AbstractBitInput} instead.
  *
  * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
  */
@@ -96,6 +99,63 @@ public interface BitInput {
 
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Peeks an int value without consuming any bits. A subsequent {@link #readInt(boolean, int)} with same arguments
+     * returns the same value, and {@link #skip(long)} may be used to consume only some of the peeked bits, which is
+     * what table-driven decoders of prefix codes do.
+     *
+     * @param unsigned a flag for indicating unsigned value; {@code true} for unsigned, {@code false} for signed.
+     * @param size     number of bits for value; between {@code 1} and {@code 31 + (unsigned ? 0 : 1)}, both inclusive.
+     * @return an int value
+     * @throws IOException if an I/O error occurs; e.g. an {@link java.io.EOFException} when less than {@code size} bits
+     *                     are left.
+     * @since 2.0.0
+     */
+    int peekInt(boolean unsigned, int size) throws IOException;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Skips specified number of bits. Implementations are encouraged to forward whole skipped bytes to the underlying
+     * source without reading them.
+     *
+     * @param bits the number of bits to skip; must be non-negative.
+     * @throws IllegalArgumentException if {@code bits} is negative.
+     * @throws IOException              if an I/O error occurs.
+     * @since 2.0.0
+     */
+    void skip(long bits) throws IOException;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of bits read, or skipped, so far. Bits peeked ahead are not counted.
+     *
+     * @return the current position in bits.
+     * @since 2.0.0
+     */
+    long position();
+
+    /**
+     * Marks the current position so that a subsequent {@link #reset()} rewinds to it. A mark stays valid until the next
+     * mark and may be reset to any number of times.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @since 2.0.0
+     */
+    void mark() throws IOException;
+
+    /**
+     * Rewinds to the position of the last {@link #mark()}.
+     *
+     * @throws IllegalStateException if not marked.
+     * @throws IOException           if an I/O error occurs.
+     * @since 2.0.0
+     */
+    void reset() throws IOException;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Aligns to given number of bytes by discarding bits.
      *
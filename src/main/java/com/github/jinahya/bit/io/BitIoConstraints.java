@@ -65,6 +65,23 @@ final class BitIoConstraints {
         return size;
     }
 
+    /**
+     * Checks whether given size is valid for unsigned 64 bit integer. An {@code IllegalArgumentException} will be
+     * thrown if given value is not valid.
+     *
+     * @param size the size to check; must between {@code 1} and {@value Long#SIZE}, both inclusive.
+     * @return given size.
+     */
+    static int requireValidSizeUnsigned64(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > Long.SIZE) {
+            throw new IllegalArgumentException("size(" + size + ") > " + Long.SIZE);
+        }
+        return size;
+    }
+
     // -------------------------------------------------------------------------------------------------------- exponent
     static final int MIN_EXPONENT = 3;
 
@@ -141,6 +158,29 @@ final class BitIoConstraints {
         return requireValidSizeUnsigned16(size);
     }
 
+    // ----------------------------------------------------------------------------------------------------------- group
+
+    /**
+     * The minimum number of value bits of each group of a variable-length integer.
+     */
+    static final int MIN_GROUP_SIZE = 1;
+
+    /**
+     * The maximum number of value bits of each group of a variable-length integer; each group, along with its
+     * continuation bit, is transferred as a single unsigned {@code int}.
+     */
+    static final int MAX_GROUP_SIZE = Integer.SIZE - 2;
+
+    static int requireValidGroupSize(final int groupSize) {
+        if (groupSize < MIN_GROUP_SIZE) {
+            throw new IllegalArgumentException("groupSize(" + groupSize + ") < " + MIN_GROUP_SIZE);
+        }
+        if (groupSize > MAX_GROUP_SIZE) {
+            throw new IllegalArgumentException("groupSize(" + groupSize + ") > " + MAX_GROUP_SIZE);
+        }
+        return groupSize;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     private BitIoConstraints() {
         super();
@@ -0,0 +1,175 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+
+/**
+ * A class for thread-local instances of bit inputs and bit outputs which are reused for each source or target so that
+ * steady-state decoding and encoding allocate nothing. An instance returned by a method of this class is valid only in
+ * the calling thread, and only until the same method is invoked again in that thread; nested use of same type of
+ * instance requires creating a new one.
+ * <p>
+ * Each thread's instances live as long as the thread does, or until {@link #remove()} is invoked in that thread, and
+ * keep referring to the last source or target given, which therefore is not garbage collected in the meantime. The
+ * internal array of the {@link #byteArrayBitOutput() byte array bit output} is kept only up to {@link
+ * #MAX_RETAINED_CAPACITY} bytes. Threads of a pool which outlive the work using this class, e.g. those of an
+ * application server, should invoke {@link #remove()} when done.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class BitIoPool {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The maximum capacity, in bytes, of the internal array of a {@link ByteArrayBitOutput} kept for subsequent
+     * messages. The value is {@value}.
+     */
+    public static final int MAX_RETAINED_CAPACITY = 65536;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private static final byte[] EMPTY_ARRAY = new byte[0];
+
+    private static final ThreadLocal<ArrayBitInput> ARRAY_BIT_INPUT = new ThreadLocal<ArrayBitInput>() {
+        @Override
+        protected ArrayBitInput initialValue() {
+            return new ArrayBitInput(EMPTY_ARRAY);
+        }
+    };
+
+    private static final ThreadLocal<ArrayBitOutput> ARRAY_BIT_OUTPUT = new ThreadLocal<ArrayBitOutput>() {
+        @Override
+        protected ArrayBitOutput initialValue() {
+            return new ArrayBitOutput(EMPTY_ARRAY);
+        }
+    };
+
+    private static final ThreadLocal<BufferBitInput> BUFFER_BIT_INPUT = new ThreadLocal<BufferBitInput>() {
+        @Override
+        protected BufferBitInput initialValue() {
+            return new BufferBitInput(ByteBuffer.wrap(EMPTY_ARRAY));
+        }
+    };
+
+    private static final ThreadLocal<BufferBitOutput> BUFFER_BIT_OUTPUT = new ThreadLocal<BufferBitOutput>() {
+        @Override
+        protected BufferBitOutput initialValue() {
+            return new BufferBitOutput(ByteBuffer.wrap(EMPTY_ARRAY));
+        }
+    };
+
+    private static final ThreadLocal<ByteArrayBitOutput> BYTE_ARRAY_BIT_OUTPUT
+            = new ThreadLocal<ByteArrayBitOutput>() {
+        @Override
+        protected ByteArrayBitOutput initialValue() {
+            return new ByteArrayBitOutput();
+        }
+    };
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the current thread's instance of {@link ArrayBitInput} reused for given source.
+     *
+     * @param source the array from which bits are read.
+     * @return the current thread's array bit input.
+     * @see ArrayBitInput#reuse(byte[])
+     */
+    public static ArrayBitInput arrayBitInput(final byte[] source) {
+        return ARRAY_BIT_INPUT.get().reuse(source);
+    }
+
+    /**
+     * Returns the current thread's instance of {@link ArrayBitOutput} reused for given target.
+     *
+     * @param target the array to which bits are written.
+     * @return the current thread's array bit output.
+     * @see ArrayBitOutput#reuse(byte[])
+     */
+    public static ArrayBitOutput arrayBitOutput(final byte[] target) {
+        return ARRAY_BIT_OUTPUT.get().reuse(target);
+    }
+
+    /**
+     * Returns the current thread's instance of {@link BufferBitInput} reused for given source.
+     *
+     * @param source the buffer from which bits are read.
+     * @return the current thread's buffer bit input.
+     * @see BufferBitInput#reuse(ByteBuffer)
+     */
+    public static BufferBitInput bufferBitInput(final ByteBuffer source) {
+        return BUFFER_BIT_INPUT.get().reuse(source);
+    }
+
+    /**
+     * Returns the current thread's instance of {@link BufferBitOutput} reused for given target.
+     *
+     * @param target the buffer to which bits are written.
+     * @return the current thread's buffer bit output.
+     * @see BufferBitOutput#reuse(ByteBuffer)
+     */
+    public static BufferBitOutput bufferBitOutput(final ByteBuffer target) {
+        return BUFFER_BIT_OUTPUT.get().reuse(target);
+    }
+
+    /**
+     * Returns the current thread's instance of {@link ByteArrayBitOutput} after {@link ByteArrayBitOutput#reset()
+     * resetting} it. The internal array, once grown, is kept for subsequent messages unless its capacity exceeds {@link
+     * #MAX_RETAINED_CAPACITY}, in which case a new instance replaces it.
+     *
+     * @return the current thread's byte array bit output.
+     */
+    public static ByteArrayBitOutput byteArrayBitOutput() {
+        ByteArrayBitOutput output = BYTE_ARRAY_BIT_OUTPUT.get();
+        if (output.capacity() > MAX_RETAINED_CAPACITY) {
+            output = new ByteArrayBitOutput();
+            BYTE_ARRAY_BIT_OUTPUT.set(output);
+            return output;
+        }
+        output.reset();
+        return output;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Removes all instances of the current thread, along with the sources, targets and arrays they refer to. A
+     * subsequent invocation of any method of this class in the current thread creates a new instance.
+     */
+    public static void remove() {
+        ARRAY_BIT_INPUT.remove();
+        ARRAY_BIT_OUTPUT.remove();
+        BUFFER_BIT_INPUT.remove();
+        BUFFER_BIT_OUTPUT.remove();
+        BYTE_ARRAY_BIT_OUTPUT.remove();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private BitIoPool() {
+        super();
+    }
+}
@@ -24,6 +24,9 @@ import java.io.IOException;
 
 /**
  * An interface for writing arbitrary length of bits.
+ * <p>
+ * Methods marked {@code @since 2.0.0} were added to this interface in version {@code 2.0.0}, which breaks classes
+ * implementing this interface directly; such classes should extend {@link AbstractBitOutput} instead.
  *
  * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
  */
@@ -98,6 +101,16 @@ public interface BitOutput {
 
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Returns the number of bits written so far.
+     *
+     * @return the current position in bits.
+     * @since 2.0.0
+     */
+    long position();
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Aligns to specified number of bytes by padding zero bits.
      *
@@ -0,0 +1,96 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+
+import static com.github.jinahya.bit.io.RandomAccessBitReader.word;
+
+/**
+ * A bit input reading bits directly from a byte buffer, either heap or direct. Unlike {@link DefaultBitInput} with a
+ * {@link BufferByteInput}, this class keeps the bit index as its own field and extracts each value from a single
+ * 64-bit word, loaded with {@link ByteBuffer#getLong(int)} in the buffer's byte order, without any per-byte virtual
+ * call. Bits are read from the buffer's position, at the time of construction, up to its limit, and neither the
+ * position nor the limit of the buffer is changed. The {@link #position()} method returns the number of bits read
+ * since the buffer's initial position.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see BufferBitOutput
+ */
+public final class BufferBitInput extends AbstractWordBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given source.
+     *
+     * @param source the buffer from which bits are read.
+     */
+    public BufferBitInput(final ByteBuffer source) {
+        super();
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        this.origin = source.position() * (long) Byte.SIZE;
+        this.limit = source.limit() * (long) Byte.SIZE;
+        this.index = origin;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reuses this instance, as if newly created, for given source.
+     *
+     * @param source the new buffer from which bits are read.
+     * @return this instance.
+     */
+    public BufferBitInput reuse(final ByteBuffer source) {
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        origin = source.position() * (long) Byte.SIZE;
+        limit = source.limit() * (long) Byte.SIZE;
+        index = origin;
+        mark = -1L;
+        return this;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    long peek64(final int size) {
+        final int octet = (int) (index >> 3);
+        final int shift = (int) index & 7;
+        long value = word(source, octet) << shift;
+        if (shift + size > Long.SIZE) {
+            value |= (source.get(octet + Long.SIZE / Byte.SIZE) & 0xFFL) >>> (Byte.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - size);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffer from which bits are read.
+     */
+    private ByteBuffer source;
+}
@@ -0,0 +1,128 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A bit output writing bits directly to a byte buffer, either heap or direct. Unlike {@link DefaultBitOutput} with a
+ * {@link BufferByteOutput}, this class keeps the bit index as its own field and stores each value as a single 64-bit
+ * word, with {@link ByteBuffer#putLong(int, long)} in the buffer's byte order, without any per-byte virtual call. Bits
+ * are written from the buffer's position, at the time of construction, up to its limit, and neither the position nor
+ * the limit of the buffer is changed. Bits following the last written one in the same byte are always zeros, while
+ * bytes after that byte may be overwritten. The {@link #position()} method returns the number of bits written since
+ * the buffer's initial position.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see BufferBitInput
+ */
+public final class BufferBitOutput extends AbstractWordBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given target.
+     *
+     * @param target the buffer to which bits are written.
+     */
+    public BufferBitOutput(final ByteBuffer target) {
+        super();
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        this.target = target;
+        this.origin = target.position() * (long) Byte.SIZE;
+        this.limit = target.limit() * (long) Byte.SIZE;
+        this.index = origin;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reuses this instance, as if newly created, for given target.
+     *
+     * @param target the new buffer to which bits are written.
+     * @return this instance.
+     */
+    public BufferBitOutput reuse(final ByteBuffer target) {
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        this.target = target;
+        origin = target.position() * (long) Byte.SIZE;
+        limit = target.limit() * (long) Byte.SIZE;
+        index = origin;
+        return this;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void put(final int size, final long value) throws IOException {
+        if (index + size > limit) {
+            throw new IOException("no room for " + size + " bit(s); index: " + index + ", limit: " + limit);
+        }
+        final int octet = (int) (index >> 3);
+        final int shift = (int) index & 7;
+        final int tail = shift + size - Long.SIZE; // the number of bits spilling to the ninth byte
+        if (tail > 0) {
+            store(octet, shift, size - tail, value >>> tail);
+            target.put(octet + Long.SIZE / Byte.SIZE, (byte) (value << (Byte.SIZE - tail)));
+        } else {
+            store(octet, shift, size, value);
+        }
+    }
+
+    /**
+     * Stores specified bits, following the leading bits of the byte at specified index, and zeros for the rest of the
+     * word, or of their last byte when less than eight bytes are left.
+     *
+     * @param octet the index of the first byte.
+     * @param shift the number of leading bits of the first byte to preserve.
+     * @param size  the number of bits to write; {@code shift + size} is not greater than {@value Long#SIZE}.
+     * @param value the value whose lower {@code size} bits are written.
+     */
+    private void store(final int octet, final int shift, final int size, final long value) {
+        final int end = shift + size;
+        final long word = ((long) target.get(octet) << (Long.SIZE - Byte.SIZE) & ~(-1L >>> shift))
+                          | (value << (Long.SIZE - size) >>> shift);
+        if ((limit >> 3) - octet >= Long.SIZE / Byte.SIZE) {
+            target.putLong(octet, target.order() == ByteOrder.BIG_ENDIAN ? word : Long.reverseBytes(word));
+            return;
+        }
+        for (int i = 0, bytes = (end + 7) >> 3; i < bytes; i++) {
+            target.put(octet + i, (byte) (word >>> (Long.SIZE - Byte.SIZE * (i + 1))));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffer to which bits are written.
+     */
+    private ByteBuffer target;
+
+    /**
+     * The limit of {@link #target} in bits.
+     */
+    private long limit;
+}
@@ -72,6 +72,11 @@ public class BufferByteInput<T extends ByteBuffer> extends AbstractByteInput<T>
                 return super.read();
             }
 
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+
             @Override
             public void setSource(final ByteBuffer source) {
                 throw new UnsupportedOperationException();
@@ -106,6 +111,92 @@ public class BufferByteInput<T extends ByteBuffer> extends AbstractByteInput<T>
         return getSource().get() & 0xFF;
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code BufferByteInput} class gets as many bytes as
+     * remaining in {@code source} at once and falls back to {@link #read()} whenever no bytes are remaining so that
+     * subclasses refilling the {@code source} in {@link #read()} keep working.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, int offset, int length) throws IOException {
+        while (length > 0) {
+            final int remaining = source == null ? 0 : source.remaining();
+            if (remaining == 0) {
+                array[offset++] = (byte) read();
+                length--;
+                continue;
+            }
+            final int copied = Math.min(remaining, length);
+            source.get(array, offset, copied);
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code BufferByteInput} class advances the position of the {@code
+     * source} by as many bytes as remaining at once and falls back to {@link #read()} whenever no bytes are remaining.
+     *
+     * @param count {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(long count) throws IOException {
+        while (count > 0L) {
+            final int remaining = source == null ? 0 : source.remaining();
+            if (remaining == 0) {
+                read();
+                count--;
+                continue;
+            }
+            final int skipped = (int) Math.min(remaining, count);
+            source.position(source.position() + skipped);
+            count -= skipped;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code markSupported()} method of {@code BufferByteInput} class returns {@code true}.
+     * Subclasses refilling the {@code source} while reading should override this method to return {@code false}.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} The {@code mark()} method of {@code BufferByteInput} class stores the current position of the
+     * {@code source}.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void mark() throws IOException {
+        mark = getSource().position();
+    }
+
+    /**
+     * {@inheritDoc} The {@code reset()} method of {@code BufferByteInput} class moves the position of the {@code
+     * source} back to the marked one.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void reset() throws IOException {
+        if (mark < 0) {
+            throw new IllegalStateException("not marked");
+        }
+        getSource().position(mark);
+    }
+
     // ---------------------------------------------------------------------------------------------------------- source
 
     /**
@@ -118,4 +209,11 @@ public class BufferByteInput<T extends ByteBuffer> extends AbstractByteInput<T>
     public BufferByteInput<T> source(final T source) {
         return (BufferByteInput<T>) super.source(source);
     }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The marked position of the {@code source}; {@code -1} if not marked.
+     */
+    private int mark = -1;
 }
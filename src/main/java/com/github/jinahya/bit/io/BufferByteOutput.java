@@ -127,6 +127,32 @@ public class BufferByteOutput<T extends ByteBuffer> extends AbstractByteOutput<T
         getTarget().put((byte) value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code BufferByteOutput} class puts as many bytes as
+     * remaining in the {@code target} at once and falls back to {@link #write(int)} whenever no space is remaining so
+     * that subclasses draining the {@code target} in {@link #write(int)} keep working.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, int offset, int length) throws IOException {
+        while (length > 0) {
+            final int remaining = target == null ? 0 : target.remaining();
+            if (remaining == 0) {
+                write(array[offset++] & 0xFF);
+                length--;
+                continue;
+            }
+            final int copied = Math.min(remaining, length);
+            target.put(array, offset, copied);
+            offset += copied;
+            length -= copied;
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------------------- target
 
     /**
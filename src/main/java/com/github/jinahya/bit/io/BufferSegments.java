@@ -0,0 +1,123 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+
+/**
+ * A utility class for arrays of byte buffers which together hold more bytes than a single buffer can address. Each
+ * segment contributes the bytes from index {@code 0} up to its limit, and every segment but the last one has the same
+ * limit as the first one.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see SegmentedBitInput
+ * @see SegmentedBitOutput
+ */
+public final class BufferSegments {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Allocates segments for specified number of bytes.
+     *
+     * @param capacity    the total number of bytes; not negative.
+     * @param segmentSize the number of bytes of each segment but the last one; positive.
+     * @param direct      a flag for allocating {@link ByteBuffer#allocateDirect(int) direct} buffers.
+     * @return an array of segments; with a single empty segment when {@code capacity} is zero.
+     */
+    public static ByteBuffer[] allocate(final long capacity, final int segmentSize, final boolean direct) {
+        if (capacity < 0L) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") < 0");
+        }
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize(" + segmentSize + ") <= 0");
+        }
+        final long count = Math.max((capacity + segmentSize - 1) / segmentSize, 1L);
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "too many segments; capacity: " + capacity + ", segmentSize: " + segmentSize);
+        }
+        final ByteBuffer[] segments = new ByteBuffer[(int) count];
+        for (int i = 0; i < segments.length; i++) {
+            final int size = (int) Math.min(segmentSize, capacity - i * (long) segmentSize);
+            segments[i] = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the total number of bytes of given segments.
+     *
+     * @param segments the segments.
+     * @return the total number of bytes of {@code segments}.
+     */
+    public static long length(final ByteBuffer[] segments) {
+        final int segmentSize = requireValidSegments(segments);
+        return (segments.length - 1) * (long) segmentSize + segments[segments.length - 1].limit();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Checks given segments and returns the limit of the first one.
+     *
+     * @param segments the segments to check.
+     * @return the size of each segment but the last one.
+     */
+    static int requireValidSegments(final ByteBuffer[] segments) {
+        if (segments == null) {
+            throw new NullPointerException("segments is null");
+        }
+        if (segments.length == 0) {
+            throw new IllegalArgumentException("segments.length == 0");
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i] == null) {
+                throw new NullPointerException("segments[" + i + "] is null");
+            }
+        }
+        final int segmentSize = segments[0].limit();
+        if (segments.length > 1 && segmentSize == 0) {
+            throw new IllegalArgumentException("segments[0].limit() == 0");
+        }
+        for (int i = 1; i < segments.length - 1; i++) {
+            if (segments[i].limit() != segmentSize) {
+                throw new IllegalArgumentException(
+                        "segments[" + i + "].limit(" + segments[i].limit() + ") != " + segmentSize);
+            }
+        }
+        if (segments[segments.length - 1].limit() > segmentSize) {
+            throw new IllegalArgumentException(
+                    "segments[" + (segments.length - 1) + "].limit(" + segments[segments.length - 1].limit() + ") > "
+                    + segmentSize);
+        }
+        return segmentSize;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private BufferSegments() {
+        super();
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A bit output writing bits to an internal array which grows as required, by doubling its length. An instance may be
+ * reused for multiple messages via {@link #reset()}. Written bytes are taken with {@link #toByteArray()} or viewed,
+ * without copying, with {@link #asByteBuffer()}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see ArrayBitOutput
+ */
+public final class ByteArrayBitOutput extends AbstractWordBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default initial capacity in bytes.
+     */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with specified initial capacity.
+     *
+     * @param capacity the initial capacity in bytes; must be non-negative.
+     */
+    public ByteArrayBitOutput(final int capacity) {
+        super();
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") < 0");
+        }
+        target = new byte[capacity + Long.SIZE / Byte.SIZE];
+    }
+
+    /**
+     * Creates a new instance with {@link #DEFAULT_CAPACITY}.
+     */
+    public ByteArrayBitOutput() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Discards all written bits so that this output can be reused. The internal array is kept.
+     */
+    public void reset() {
+        index = 0L;
+    }
+
+    /**
+     * Returns the current capacity, in bytes, of the internal array.
+     *
+     * @return the current capacity in bytes.
+     */
+    int capacity() {
+        return target.length - Long.SIZE / Byte.SIZE;
+    }
+
+    /**
+     * Returns the number of bytes written, including the last partial byte, if any.
+     *
+     * @return the number of bytes written.
+     */
+    public int size() {
+        return (int) ((index + Byte.SIZE - 1) >> 3);
+    }
+
+    /**
+     * Returns a new array of bytes written, including the last partial byte, if any, whose unwritten bits are zeros.
+     *
+     * @return a new array of {@link #size()} bytes.
+     */
+    public byte[] toByteArray() {
+        final byte[] array = new byte[size()];
+        System.arraycopy(target, 0, array, 0, array.length);
+        return array;
+    }
+
+    /**
+     * Returns a read-only view of bytes written, including the last partial byte, if any, without copying. The view is
+     * valid until next write or {@link #reset()}.
+     *
+     * @return a read-only buffer of {@link #size()} bytes.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(target, 0, size()).slice().asReadOnlyBuffer();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void put(final int size, final long value) {
+        final int required = (int) ((index + size + Byte.SIZE - 1) >> 3) + Long.SIZE / Byte.SIZE;
+        if (required > target.length) {
+            final byte[] grown = new byte[Math.max(target.length << 1, required)];
+            System.arraycopy(target, 0, grown, 0, size());
+            target = grown;
+        }
+        final int octet = (int) (index >> 3);
+        final int shift = (int) index & 7;
+        final int tail = shift + size - Long.SIZE; // the number of bits spilling to the ninth byte
+        if (tail > 0) {
+            store(octet, shift, size - tail, value >>> tail);
+            target[octet + Long.SIZE / Byte.SIZE] = (byte) (value << (Byte.SIZE - tail));
+        } else {
+            store(octet, shift, size, value);
+        }
+    }
+
+    /**
+     * Stores specified bits, following the leading bits of the byte at specified index, and zeros for the rest of the
+     * word.
+     *
+     * @param octet the index of the first byte.
+     * @param shift the number of leading bits of the first byte to preserve.
+     * @param size  the number of bits to write; {@code shift + size} is not greater than {@value Long#SIZE}.
+     * @param value the value whose lower {@code size} bits are written.
+     */
+    private void store(final int octet, final int shift, final int size, final long value) {
+        final long word = ((long) target[octet] << (Long.SIZE - Byte.SIZE) & ~(-1L >>> shift))
+                          | (value << (Long.SIZE - size) >>> shift);
+        for (int i = 0; i < Long.SIZE / Byte.SIZE; i++) {
+            target[octet + i] = (byte) (word >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The array to which bits are written; always has eight more bytes than written.
+     */
+    private byte[] target;
+}
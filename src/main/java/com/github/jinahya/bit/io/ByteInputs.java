@@ -59,6 +59,58 @@ public final class ByteInputs {
 
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Reads specified number of bytes from given byte input into specified array. This method invokes {@link
+     * AbstractByteInput#read(byte[], int, int)} if given byte input is an instance of {@link AbstractByteInput}, or
+     * invokes {@link ByteInput#read()} for each byte otherwise.
+     *
+     * @param input  the byte input from which bytes are read.
+     * @param array  the array into which bytes are read.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of bytes to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void read(final ByteInput input, final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        if (input instanceof AbstractByteInput) {
+            ((AbstractByteInput<?>) input).read(array, offset, length);
+            return;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            array[i] = (byte) input.read();
+        }
+    }
+
+    /**
+     * Skips specified number of bytes of given byte input. This method invokes {@link AbstractByteInput#skip(long)} if
+     * given byte input is an instance of {@link AbstractByteInput}, or invokes {@link ByteInput#read()} for each byte
+     * otherwise.
+     *
+     * @param input the byte input whose bytes are skipped.
+     * @param count the number of bytes to skip.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void skip(final ByteInput input, final long count) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        if (input instanceof AbstractByteInput) {
+            ((AbstractByteInput<?>) input).skip(count);
+            return;
+        }
+        for (long i = 0L; i < count; i++) {
+            input.read();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Creates a new instance.
      */
@@ -56,6 +56,36 @@ public final class ByteOutputs {
 
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Writes specified number of bytes from given array to specified byte output. This method invokes {@link
+     * AbstractByteOutput#write(byte[], int, int)} if given byte output is an instance of {@link AbstractByteOutput},
+     * or invokes {@link ByteOutput#write(int)} for each byte otherwise.
+     *
+     * @param output the byte output to which bytes are written.
+     * @param array  the array whose bytes are written.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of bytes to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void write(final ByteOutput output, final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        if (output instanceof AbstractByteOutput) {
+            ((AbstractByteOutput<?>) output).write(array, offset, length);
+            return;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            output.write(array[i] & 0xFF);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Creates a new instance.
      */
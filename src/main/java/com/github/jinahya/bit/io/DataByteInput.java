@@ -57,6 +57,52 @@ public class DataByteInput<T extends DataInput> extends AbstractByteInput<T> {
         return getSource().readUnsignedByte();
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code DataByteInput} class reads the first byte via
+     * {@link #read()} and the rest via {@link DataInput#readFully(byte[], int, int)}.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        array[offset] = (byte) read();
+        getSource().readFully(array, offset + 1, length - 1);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code DataByteInput} class invokes {@link
+     * DataInput#skipBytes(int)} for all but the last byte, falling back to {@link #read()} whenever the source skips no
+     * bytes, and reads the last byte via {@link #read()}. Sources such as a {@link java.io.DataInputStream} over a
+     * {@link java.io.FileInputStream} may skip past the end of the stream and report success, so the last byte is read
+     * to detect the end of the stream.
+     *
+     * @param count {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(final long count) throws IOException {
+        if (count <= 0L) {
+            return;
+        }
+        long remaining = count - 1L;
+        while (remaining > 0L) {
+            final int skipped = getSource().skipBytes((int) Math.min(remaining, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                read();
+                remaining--;
+                continue;
+            }
+            remaining -= skipped;
+        }
+        read(); // throws an EOFException if the source skipped past its end
+    }
+
     // ---------------------------------------------------------------------------------------------------------- source
 
     /**
@@ -56,6 +56,24 @@ public class DataByteOutput<T extends DataOutput> extends AbstractByteOutput<T>
         getTarget().writeByte(value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code DataByteOutput} class writes the first byte
+     * via {@link #write(int)} and the rest via {@link DataOutput#write(byte[], int, int)}.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int length) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        write(array[offset] & 0xFF);
+        getTarget().write(array, offset + 1, length - 1);
+    }
+
     // ---------------------------------------------------------------------------------------------------------- target
 
     /**
@@ -24,6 +24,12 @@ import java.io.IOException;
 
 /**
  * A default implementation of {@link ByteInput} which reads bytes from an instance of {@link ByteInput}.
+ * <p>
+ * Byte arrays and skipped octets are transferred in bulk via {@link ByteInputs#read(ByteInput, byte[], int, int)} and
+ * {@link ByteInputs#skip(ByteInput, long)} on what {@link #getDelegate()} gives. A subclass overriding {@link #read()}
+ * is detected on construction and keeps receiving every single byte through its {@link #read()}, in which case bytes
+ * are neither bulk transferred nor marked on the delegate. A subclass may override {@link #read(byte[], int, int)} and
+ * {@link #skipOctets(long)} as well to take the bulk path back.
  *
  * @param <T> byte input type parameter
  * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
@@ -41,6 +47,32 @@ public class DefaultBitInput<T extends ByteInput> extends AbstractBitInput {
     public DefaultBitInput(final T delegate) {
         super();
         this.delegate = delegate;
+        bytewise = overrides(getClass(), "read");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Checks whether specified class, or any of its superclasses below {@link DefaultBitInput}, declares a method of
+     * specified name and parameter types.
+     *
+     * @param clazz the class to check.
+     * @param name  the name of the method.
+     * @param types the parameter types of the method.
+     * @return {@code true} if the method is overridden or can't be checked; {@code false} otherwise.
+     */
+    private static boolean overrides(final Class<?> clazz, final String name, final Class<?>... types) {
+        for (Class<?> c = clazz; c != DefaultBitInput.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, types);
+                return true;
+            } catch (final NoSuchMethodException nsme) {
+                // continue with the superclass
+            } catch (final SecurityException se) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -57,6 +89,74 @@ public class DefaultBitInput<T extends ByteInput> extends AbstractBitInput {
         return getDelegate().read();
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code DefaultBitInput} class invokes {@link
+     * ByteInputs#read(ByteInput, byte[], int, int)} on what {@link #getDelegate()} gives, or reads each byte via {@link
+     * #read()} if a subclass overrides it.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void read(final byte[] array, final int offset, final int length) throws IOException {
+        if (bytewise) {
+            super.read(array, offset, length);
+            return;
+        }
+        ByteInputs.read(getDelegate(), array, offset, length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipOctets(long)} method of {@code DefaultBitInput} class invokes {@link
+     * ByteInputs#skip(ByteInput, long)} on what {@link #getDelegate()} gives, or reads each octet via {@link #read()}
+     * if a subclass overrides it.
+     *
+     * @param count {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void skipOctets(final long count) throws IOException {
+        if (bytewise) {
+            super.skipOctets(count);
+            return;
+        }
+        ByteInputs.skip(getDelegate(), count);
+    }
+
+    /**
+     * {@inheritDoc} The {@code markOctets()} method of {@code DefaultBitInput} class invokes {@link
+     * AbstractByteInput#mark()} on what {@link #getDelegate()} gives if it is an instance of {@link AbstractByteInput}
+     * which supports marking, and {@link #read()} is not overridden.
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected boolean markOctets() throws IOException {
+        if (bytewise) {
+            return false;
+        }
+        final T delegate = getDelegate();
+        if (delegate instanceof AbstractByteInput && ((AbstractByteInput<?>) delegate).markSupported()) {
+            ((AbstractByteInput<?>) delegate).mark();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc} The {@code resetOctets()} method of {@code DefaultBitInput} class invokes {@link
+     * AbstractByteInput#reset()} on what {@link #getDelegate()} gives.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void resetOctets() throws IOException {
+        ((AbstractByteInput<?>) getDelegate()).reset();
+    }
+
     // -------------------------------------------------------------------------------------------------------- delegate
 
     /**
@@ -94,4 +194,9 @@ public class DefaultBitInput<T extends ByteInput> extends AbstractBitInput {
      * The delegate whose {@link ByteInput#read()} method is invoked via {@link #read()} method.
      */
     protected T delegate;
+
+    /**
+     * A flag for whether a subclass overrides {@link #read()}.
+     */
+    private final boolean bytewise;
 }
@@ -24,6 +24,11 @@ import java.io.IOException;
 
 /**
  * A default implementation writes bytes to an instance of {@link ByteOutput}.
+ * <p>
+ * Byte arrays are transferred in bulk via {@link ByteOutputs#write(ByteOutput, byte[], int, int)} on what {@link
+ * #getDelegate()} gives. A subclass overriding {@link #write(int)} is detected on construction and keeps receiving
+ * every single byte through its {@link #write(int)}. A subclass may override {@link #write(byte[], int, int)} as well
+ * to take the bulk path back.
  *
  * @param <T> byte output type parameter
  * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
@@ -40,6 +45,32 @@ public class DefaultBitOutput<T extends ByteOutput> extends AbstractBitOutput {
     public DefaultBitOutput(final T delegate) {
         super();
         this.delegate = delegate;
+        bytewise = overrides(getClass(), "write", int.class);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Checks whether specified class, or any of its superclasses below {@link DefaultBitOutput}, declares a method of
+     * specified name and parameter types.
+     *
+     * @param clazz the class to check.
+     * @param name  the name of the method.
+     * @param types the parameter types of the method.
+     * @return {@code true} if the method is overridden or can't be checked; {@code false} otherwise.
+     */
+    private static boolean overrides(final Class<?> clazz, final String name, final Class<?>... types) {
+        for (Class<?> c = clazz; c != DefaultBitOutput.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, types);
+                return true;
+            } catch (final NoSuchMethodException nsme) {
+                // continue with the superclass
+            } catch (final SecurityException se) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -56,6 +87,25 @@ public class DefaultBitOutput<T extends ByteOutput> extends AbstractBitOutput {
         getDelegate().write(value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code DefaultBitOutput} class invokes {@link
+     * ByteOutputs#write(ByteOutput, byte[], int, int)} on what {@link #getDelegate()} gives, or writes each byte via
+     * {@link #write(int)} if a subclass overrides it.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void write(final byte[] array, final int offset, final int length) throws IOException {
+        if (bytewise) {
+            super.write(array, offset, length);
+            return;
+        }
+        ByteOutputs.write(getDelegate(), array, offset, length);
+    }
+
     // -------------------------------------------------------------------------------------------------------- delegate
 
     /**
@@ -93,4 +143,9 @@ public class DefaultBitOutput<T extends ByteOutput> extends AbstractBitOutput {
      * The delegate whose {@link ByteOutput#write(int)} method is invoked via {@link #write(int)} method.
      */
     protected T delegate;
+
+    /**
+     * A flag for whether a subclass overrides {@link #write(int)}.
+     */
+    private final boolean bytewise;
 }
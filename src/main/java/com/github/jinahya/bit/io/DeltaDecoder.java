@@ -0,0 +1,190 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+import static com.github.jinahya.bit.io.DeltaEncoder.BUCKET_SIZES;
+import static com.github.jinahya.bit.io.ExtendedBitInput.readSignedVarLong;
+import static com.github.jinahya.bit.io.ExtendedBitInput.readUnsignedVarInt;
+
+/**
+ * A class for decoding sequences of {@code long} values encoded by {@link DeltaEncoder}. Decoding keeps only the last
+ * value and the last difference so that no object is allocated for each value.
+ *
+ * @author Jin Kwon &lt;onacit at gmail.com&gt;
+ * @see DeltaEncoder
+ */
+public final class DeltaDecoder {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads a value written in a bucket.
+     *
+     * @param input the bit input.
+     * @return the value read.
+     * @throws IOException if an I/O error occurs.
+     */
+    static long readBucket(final BitInput input) throws IOException {
+        int ones = 0;
+        while (ones < BUCKET_SIZES.length && input.readBoolean()) {
+            ones++;
+        }
+        if (ones == 0) {
+            return 0L;
+        }
+        return input.readLong(false, BUCKET_SIZES[ones - 1]);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads an array of values written as differences between consecutive values. Note that an array of the length
+     * prefixed in the input is allocated up front; use {@link #readDeltas(BitInput, int)} for untrusted input.
+     *
+     * @param input the bit input from which values are read.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs or the input is malformed.
+     * @see DeltaEncoder#writeDeltas(BitOutput, long[])
+     */
+    public static long[] readDeltas(final BitInput input) throws IOException {
+        return readDeltas(input, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads an array of, at most, specified number of values written as differences between consecutive values.
+     *
+     * @param input     the bit input from which values are read.
+     * @param maxLength the maximum number of values to read; must be non-negative.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs, the input is malformed, or the length prefixed in the input is
+     *                     greater than {@code maxLength}.
+     * @see DeltaEncoder#writeDeltas(BitOutput, long[])
+     */
+    public static long[] readDeltas(final BitInput input, final int maxLength) throws IOException {
+        return read(new DeltaDecoder(input, false), maxLength);
+    }
+
+    /**
+     * Reads an array of values written as differences between consecutive differences of consecutive values. Note that
+     * an array of the length prefixed in the input is allocated up front; use {@link #readDeltasOfDeltas(BitInput,
+     * int)} for untrusted input.
+     *
+     * @param input the bit input from which values are read.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs or the input is malformed.
+     * @see DeltaEncoder#writeDeltasOfDeltas(BitOutput, long[])
+     */
+    public static long[] readDeltasOfDeltas(final BitInput input) throws IOException {
+        return readDeltasOfDeltas(input, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads an array of, at most, specified number of values written as differences between consecutive differences of
+     * consecutive values.
+     *
+     * @param input     the bit input from which values are read.
+     * @param maxLength the maximum number of values to read; must be non-negative.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs, the input is malformed, or the length prefixed in the input is
+     *                     greater than {@code maxLength}.
+     * @see DeltaEncoder#writeDeltasOfDeltas(BitOutput, long[])
+     */
+    public static long[] readDeltasOfDeltas(final BitInput input, final int maxLength) throws IOException {
+        return read(new DeltaDecoder(input, true), maxLength);
+    }
+
+    private static long[] read(final DeltaDecoder decoder, final int maxLength) throws IOException {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength(" + maxLength + ") < 0");
+        }
+        final int length = readUnsignedVarInt(decoder.input);
+        if (length < 0) {
+            throw new IOException("invalid length(" + (length & 0xFFFFFFFFL) + ")");
+        }
+        if (length > maxLength) {
+            throw new IOException("too many values(" + length + "); max: " + maxLength);
+        }
+        final long[] values = new long[length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = decoder.decode();
+        }
+        return values;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     *
+     * @param input        the bit input from which values are read.
+     * @param deltaOfDelta {@code true} for reading differences of differences; {@code false} for reading differences.
+     */
+    public DeltaDecoder(final BitInput input, final boolean deltaOfDelta) {
+        super();
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        this.input = input;
+        this.deltaOfDelta = deltaOfDelta;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads the next value of the sequence.
+     *
+     * @return the next value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public long decode() throws IOException {
+        if (count == 0L) {
+            previous = readSignedVarLong(input);
+        } else {
+            final long bucket = readBucket(input);
+            delta = deltaOfDelta && count > 1L ? delta + bucket : bucket;
+            previous += delta;
+        }
+        count++;
+        return previous;
+    }
+
+    /**
+     * Returns the number of values decoded so far.
+     *
+     * @return the number of values decoded so far.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final BitInput input;
+
+    private final boolean deltaOfDelta;
+
+    private long count;
+
+    private long previous;
+
+    private long delta;
+}
@@ -0,0 +1,180 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+import static com.github.jinahya.bit.io.ExtendedBitOutput.writeSignedVarLong;
+import static com.github.jinahya.bit.io.ExtendedBitOutput.writeUnsignedVarInt;
+
+/**
+ * A class for encoding sequences of {@code long} values as differences between consecutive values, or as differences
+ * between consecutive differences. The first value is written as a ZigZag-encoded variable-length integer and each
+ * following difference is written in one of the variable-width buckets of Gorilla.
+ * <table summary="buckets">
+ * <tr><th>prefix</th><th>bits</th><th>range</th></tr>
+ * <tr><td>{@code 0}</td><td>{@code 0}</td><td>{@code 0}</td></tr>
+ * <tr><td>{@code 10}</td><td>{@code 7}</td><td>{@code [-64, 63]}</td></tr>
+ * <tr><td>{@code 110}</td><td>{@code 9}</td><td>{@code [-256, 255]}</td></tr>
+ * <tr><td>{@code 1110}</td><td>{@code 12}</td><td>{@code [-2048, 2047]}</td></tr>
+ * <tr><td>{@code 11110}</td><td>{@code 32}</td><td>{@code int}</td></tr>
+ * <tr><td>{@code 11111}</td><td>{@code 64}</td><td>{@code long}</td></tr>
+ * </table>
+ * With differences of differences, the second value is written as a difference, so that a sequence of values at a
+ * fixed interval takes a single bit for each value from the third one. Differences are computed, and added back,
+ * with wrapping arithmetic so that any sequence of values is encoded losslessly.
+ *
+ * @author Jin Kwon &lt;onacit at gmail.com&gt;
+ * @see DeltaDecoder
+ */
+public final class DeltaEncoder {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The numbers of bits of buckets, each of which is prefixed with as many ones as its index plus one.
+     */
+    static final int[] BUCKET_SIZES = {7, 9, 12, Integer.SIZE, Long.SIZE};
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified value in the smallest bucket which holds it.
+     *
+     * @param output the bit output.
+     * @param value  the value to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void writeBucket(final BitOutput output, final long value) throws IOException {
+        if (value == 0L) {
+            output.writeBoolean(false);
+            return;
+        }
+        final int last = BUCKET_SIZES.length - 1;
+        for (int i = 0; i < last; i++) {
+            final int size = BUCKET_SIZES[i];
+            final long high = value >> (size - 1);
+            if (high == 0L || high == -1L) {
+                output.writeInt(true, i + 2, ((1 << (i + 1)) - 1) << 1);
+                output.writeLong(false, size, value);
+                return;
+            }
+        }
+        output.writeInt(true, last + 1, (1 << (last + 1)) - 1);
+        output.writeLong(false, BUCKET_SIZES[last], value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified array of values as differences between consecutive values.
+     *
+     * @param output the bit output to which values are written.
+     * @param values the values to write.
+     * @return the number of values written.
+     * @throws IOException if an I/O error occurs.
+     * @see DeltaDecoder#readDeltas(BitInput)
+     */
+    public static int writeDeltas(final BitOutput output, final long[] values) throws IOException {
+        return write(new DeltaEncoder(output, false), values);
+    }
+
+    /**
+     * Writes specified array of values as differences between consecutive differences of consecutive values.
+     *
+     * @param output the bit output to which values are written.
+     * @param values the values to write.
+     * @return the number of values written.
+     * @throws IOException if an I/O error occurs.
+     * @see DeltaDecoder#readDeltasOfDeltas(BitInput)
+     */
+    public static int writeDeltasOfDeltas(final BitOutput output, final long[] values) throws IOException {
+        return write(new DeltaEncoder(output, true), values);
+    }
+
+    private static int write(final DeltaEncoder encoder, final long[] values) throws IOException {
+        if (values == null) {
+            throw new NullPointerException("values is null");
+        }
+        writeUnsignedVarInt(encoder.output, values.length);
+        for (final long value : values) {
+            encoder.encode(value);
+        }
+        return values.length;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     *
+     * @param output       the bit output to which values are written.
+     * @param deltaOfDelta {@code true} for writing differences of differences; {@code false} for writing differences.
+     */
+    public DeltaEncoder(final BitOutput output, final boolean deltaOfDelta) {
+        super();
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        this.output = output;
+        this.deltaOfDelta = deltaOfDelta;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Appends specified value to the sequence.
+     *
+     * @param value the value to append.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void encode(final long value) throws IOException {
+        if (count == 0L) {
+            writeSignedVarLong(output, value);
+        } else {
+            final long difference = value - previous;
+            writeBucket(output, deltaOfDelta && count > 1L ? difference - delta : difference);
+            delta = difference;
+        }
+        previous = value;
+        count++;
+    }
+
+    /**
+     * Returns the number of values encoded so far.
+     *
+     * @return the number of values encoded so far.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final BitOutput output;
+
+    private final boolean deltaOfDelta;
+
+    private long count;
+
+    private long previous;
+
+    private long delta;
+}
@@ -5,6 +5,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.Charset;
 
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidGroupSize;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeByte;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeInt;
 
@@ -50,6 +51,10 @@ public class ExtendedBitInput {
         requireValidSizeByte(byteUnsigned, byteSize);
         final int length = bitInput.readInt(true, lengthSize);
         final byte[] byteArray = new byte[length];
+        if (byteSize == Byte.SIZE && bitInput instanceof AbstractBitInput) {
+            ((AbstractBitInput) bitInput).readBytes(byteArray, 0, length);
+            return byteArray;
+        }
         for (int i = 0; i < byteArray.length; i++) {
             byteArray[i] = bitInput.readByte(byteUnsigned, byteSize);
         }
@@ -63,6 +68,161 @@ public class ExtendedBitInput {
 
     // @todo: Add readShorts, readInts, and readLongs.
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads an unsigned variable-length integer written by {@link ExtendedBitOutput#writeUnsignedVarInt(BitOutput,
+     * int, int)}.
+     *
+     * @param bitInput  the bit input to read from.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @return the value read; treated as unsigned.
+     * @throws IOException if an I/O error occurs or the value has more groups than an {@code int} needs.
+     */
+    public static int readUnsignedVarInt(final BitInput bitInput, final int groupSize) throws IOException {
+        if (bitInput == null) {
+            throw new NullPointerException("bitInput is null");
+        }
+        requireValidGroupSize(groupSize);
+        final int mask = (1 << groupSize) - 1;
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += groupSize) {
+            final int group = bitInput.readInt(true, groupSize + 1);
+            value |= (group & mask) << shift;
+            if (group >>> groupSize == 0) {
+                return value;
+            }
+        }
+        throw new IOException("too many groups for an int; groupSize: " + groupSize);
+    }
+
+    public static int readUnsignedVarInt(final BitInput bitInput) throws IOException {
+        return readUnsignedVarInt(bitInput, ExtendedBitOutput.LEB128_GROUP_SIZE);
+    }
+
+    /**
+     * Reads a ZigZag-encoded variable-length integer written by {@link ExtendedBitOutput#writeSignedVarInt(BitOutput,
+     * int, int)}.
+     *
+     * @param bitInput  the bit input to read from.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @return the value read.
+     * @throws IOException if an I/O error occurs or the value has more groups than an {@code int} needs.
+     */
+    public static int readSignedVarInt(final BitInput bitInput, final int groupSize) throws IOException {
+        final int value = readUnsignedVarInt(bitInput, groupSize);
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    public static int readSignedVarInt(final BitInput bitInput) throws IOException {
+        return readSignedVarInt(bitInput, ExtendedBitOutput.LEB128_GROUP_SIZE);
+    }
+
+    /**
+     * Reads an unsigned variable-length integer written by {@link ExtendedBitOutput#writeUnsignedVarLong(BitOutput,
+     * int, long)}.
+     *
+     * @param bitInput  the bit input to read from.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @return the value read; treated as unsigned.
+     * @throws IOException if an I/O error occurs or the value has more groups than a {@code long} needs.
+     */
+    public static long readUnsignedVarLong(final BitInput bitInput, final int groupSize) throws IOException {
+        if (bitInput == null) {
+            throw new NullPointerException("bitInput is null");
+        }
+        requireValidGroupSize(groupSize);
+        final int mask = (1 << groupSize) - 1;
+        long value = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += groupSize) {
+            final int group = bitInput.readInt(true, groupSize + 1);
+            value |= (long) (group & mask) << shift;
+            if (group >>> groupSize == 0) {
+                return value;
+            }
+        }
+        throw new IOException("too many groups for a long; groupSize: " + groupSize);
+    }
+
+    public static long readUnsignedVarLong(final BitInput bitInput) throws IOException {
+        return readUnsignedVarLong(bitInput, ExtendedBitOutput.LEB128_GROUP_SIZE);
+    }
+
+    /**
+     * Reads a ZigZag-encoded variable-length integer written by {@link ExtendedBitOutput#writeSignedVarLong(BitOutput,
+     * int, long)}.
+     *
+     * @param bitInput  the bit input to read from.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @return the value read.
+     * @throws IOException if an I/O error occurs or the value has more groups than a {@code long} needs.
+     */
+    public static long readSignedVarLong(final BitInput bitInput, final int groupSize) throws IOException {
+        final long value = readUnsignedVarLong(bitInput, groupSize);
+        return value >>> 1 ^ -(value & 1L);
+    }
+
+    public static long readSignedVarLong(final BitInput bitInput) throws IOException {
+        return readSignedVarLong(bitInput, ExtendedBitOutput.LEB128_GROUP_SIZE);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    public static int[] readUnsignedVarInts(final BitInput bitInput, final int lengthSize, final int groupSize)
+            throws IOException {
+        if (bitInput == null) {
+            throw new NullPointerException("bitInput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        final int[] value = new int[bitInput.readInt(true, lengthSize)];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = readUnsignedVarInt(bitInput, groupSize);
+        }
+        return value;
+    }
+
+    public static int[] readSignedVarInts(final BitInput bitInput, final int lengthSize, final int groupSize)
+            throws IOException {
+        if (bitInput == null) {
+            throw new NullPointerException("bitInput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        final int[] value = new int[bitInput.readInt(true, lengthSize)];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = readSignedVarInt(bitInput, groupSize);
+        }
+        return value;
+    }
+
+    public static long[] readUnsignedVarLongs(final BitInput bitInput, final int lengthSize, final int groupSize)
+            throws IOException {
+        if (bitInput == null) {
+            throw new NullPointerException("bitInput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        final long[] value = new long[bitInput.readInt(true, lengthSize)];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = readUnsignedVarLong(bitInput, groupSize);
+        }
+        return value;
+    }
+
+    public static long[] readSignedVarLongs(final BitInput bitInput, final int lengthSize, final int groupSize)
+            throws IOException {
+        if (bitInput == null) {
+            throw new NullPointerException("bitInput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        final long[] value = new long[bitInput.readInt(true, lengthSize)];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = readSignedVarLong(bitInput, groupSize);
+        }
+        return value;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     public static String readString(final BitInput bitInput, final int lengthSize, final int byteSize,
                                     final String charsetName)
@@ -3,6 +3,7 @@ package com.github.jinahya.bit.io;
 import java.io.IOException;
 import java.nio.charset.Charset;
 
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidGroupSize;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeByte;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeInt;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeLong;
@@ -10,6 +11,13 @@ import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeShort;
 
 public class ExtendedBitOutput {
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The group size of LEB128 encoding, with which each group, along with its continuation bit, takes a byte.
+     */
+    public static final int LEB128_GROUP_SIZE = 7;
+
     // -----------------------------------------------------------------------------------------------------------------
     public static <T extends BitWritable> void writeObject(final BitOutput output, final T value) throws IOException {
         if (output == null) {
@@ -35,6 +43,10 @@ public class ExtendedBitOutput {
         }
         final int length = value.length & ((1 << lengthSize) - 1);
         bitOutput.writeInt(true, lengthSize, length);
+        if (byteSize == Byte.SIZE && bitOutput instanceof AbstractBitOutput) {
+            ((AbstractBitOutput) bitOutput).writeBytes(value, 0, length);
+            return length;
+        }
         for (int i = 0; i < length; i++) {
             bitOutput.writeByte(byteUnsigned, byteSize, value[i]);
         }
@@ -104,6 +116,185 @@ public class ExtendedBitOutput {
         return length;
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes given value as an unsigned variable-length integer. The value is divided into groups of {@code groupSize}
+     * bits, from the least significant one, and each group is written after a continuation bit which is {@code 1} if
+     * more groups follow. With {@link #LEB128_GROUP_SIZE} the result is the unsigned LEB128 encoding.
+     *
+     * @param bitOutput the bit output to write to.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @param value     the value to write; treated as unsigned.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int writeUnsignedVarInt(final BitOutput bitOutput, final int groupSize, final int value)
+            throws IOException {
+        if (bitOutput == null) {
+            throw new NullPointerException("bitOutput is null");
+        }
+        requireValidGroupSize(groupSize);
+        final int mask = (1 << groupSize) - 1;
+        int remaining = value;
+        int groups = 1;
+        for (; (remaining & ~mask) != 0; remaining >>>= groupSize, groups++) {
+            bitOutput.writeInt(true, groupSize + 1, mask + 1 | remaining & mask);
+        }
+        bitOutput.writeInt(true, groupSize + 1, remaining);
+        return groups * (groupSize + 1);
+    }
+
+    public static int writeUnsignedVarInt(final BitOutput bitOutput, final int value) throws IOException {
+        return writeUnsignedVarInt(bitOutput, LEB128_GROUP_SIZE, value);
+    }
+
+    /**
+     * Writes given value as a ZigZag-encoded variable-length integer so that values of small magnitude, either
+     * positive or negative, take few groups.
+     *
+     * @param bitOutput the bit output to write to.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @param value     the value to write.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     * @see #writeUnsignedVarInt(BitOutput, int, int)
+     */
+    public static int writeSignedVarInt(final BitOutput bitOutput, final int groupSize, final int value)
+            throws IOException {
+        return writeUnsignedVarInt(bitOutput, groupSize, value << 1 ^ value >> (Integer.SIZE - 1));
+    }
+
+    public static int writeSignedVarInt(final BitOutput bitOutput, final int value) throws IOException {
+        return writeSignedVarInt(bitOutput, LEB128_GROUP_SIZE, value);
+    }
+
+    /**
+     * Writes given value as an unsigned variable-length integer.
+     *
+     * @param bitOutput the bit output to write to.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @param value     the value to write; treated as unsigned.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     * @see #writeUnsignedVarInt(BitOutput, int, int)
+     */
+    public static int writeUnsignedVarLong(final BitOutput bitOutput, final int groupSize, final long value)
+            throws IOException {
+        if (bitOutput == null) {
+            throw new NullPointerException("bitOutput is null");
+        }
+        requireValidGroupSize(groupSize);
+        final long mask = (1L << groupSize) - 1L;
+        long remaining = value;
+        int groups = 1;
+        for (; (remaining & ~mask) != 0L; remaining >>>= groupSize, groups++) {
+            bitOutput.writeInt(true, groupSize + 1, (int) (mask + 1L | remaining & mask));
+        }
+        bitOutput.writeInt(true, groupSize + 1, (int) remaining);
+        return groups * (groupSize + 1);
+    }
+
+    public static int writeUnsignedVarLong(final BitOutput bitOutput, final long value) throws IOException {
+        return writeUnsignedVarLong(bitOutput, LEB128_GROUP_SIZE, value);
+    }
+
+    /**
+     * Writes given value as a ZigZag-encoded variable-length integer.
+     *
+     * @param bitOutput the bit output to write to.
+     * @param groupSize the number of value bits of each group; between {@code 1} and {@code 30}, both inclusive.
+     * @param value     the value to write.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     * @see #writeSignedVarInt(BitOutput, int, int)
+     */
+    public static int writeSignedVarLong(final BitOutput bitOutput, final int groupSize, final long value)
+            throws IOException {
+        return writeUnsignedVarLong(bitOutput, groupSize, value << 1 ^ value >> (Long.SIZE - 1));
+    }
+
+    public static int writeSignedVarLong(final BitOutput bitOutput, final long value) throws IOException {
+        return writeSignedVarLong(bitOutput, LEB128_GROUP_SIZE, value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    public static int writeUnsignedVarInts(final BitOutput bitOutput, final int lengthSize, final int groupSize,
+                                           final int[] value)
+            throws IOException {
+        if (bitOutput == null) {
+            throw new NullPointerException("bitOutput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        if (value == null) {
+            throw new NullPointerException("value is null");
+        }
+        final int length = value.length & ((1 << lengthSize) - 1);
+        bitOutput.writeInt(true, lengthSize, length);
+        for (int i = 0; i < length; i++) {
+            writeUnsignedVarInt(bitOutput, groupSize, value[i]);
+        }
+        return length;
+    }
+
+    public static int writeSignedVarInts(final BitOutput bitOutput, final int lengthSize, final int groupSize,
+                                         final int[] value)
+            throws IOException {
+        if (bitOutput == null) {
+            throw new NullPointerException("bitOutput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        if (value == null) {
+            throw new NullPointerException("value is null");
+        }
+        final int length = value.length & ((1 << lengthSize) - 1);
+        bitOutput.writeInt(true, lengthSize, length);
+        for (int i = 0; i < length; i++) {
+            writeSignedVarInt(bitOutput, groupSize, value[i]);
+        }
+        return length;
+    }
+
+    public static int writeUnsignedVarLongs(final BitOutput bitOutput, final int lengthSize, final int groupSize,
+                                            final long[] value)
+            throws IOException {
+        if (bitOutput == null) {
+            throw new NullPointerException("bitOutput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        if (value == null) {
+            throw new NullPointerException("value is null");
+        }
+        final int length = value.length & ((1 << lengthSize) - 1);
+        bitOutput.writeInt(true, lengthSize, length);
+        for (int i = 0; i < length; i++) {
+            writeUnsignedVarLong(bitOutput, groupSize, value[i]);
+        }
+        return length;
+    }
+
+    public static int writeSignedVarLongs(final BitOutput bitOutput, final int lengthSize, final int groupSize,
+                                          final long[] value)
+            throws IOException {
+        if (bitOutput == null) {
+            throw new NullPointerException("bitOutput is null");
+        }
+        requireValidSizeInt(true, lengthSize);
+        requireValidGroupSize(groupSize);
+        if (value == null) {
+            throw new NullPointerException("value is null");
+        }
+        final int length = value.length & ((1 << lengthSize) - 1);
+        bitOutput.writeInt(true, lengthSize, length);
+        for (int i = 0; i < length; i++) {
+            writeSignedVarLong(bitOutput, groupSize, value[i]);
+        }
+        return length;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     public static int writeString(final BitOutput bitOutput, final int lengthSize, final String value,
                                   final String charsetName)
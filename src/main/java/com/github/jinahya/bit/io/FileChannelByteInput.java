@@ -0,0 +1,250 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link ByteInput} reading bytes from a {@link FileChannel} with positional reads. Each instance keeps its own
+ * buffer and file offset, and never touches the position of the channel, so that multiple instances, even on
+ * multiple threads, can read independent regions of a file through a single channel without any locking.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see FileChannel#read(ByteBuffer, long)
+ */
+public class FileChannelByteInput extends AbstractByteInput<FileChannel> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default capacity of the buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading bytes from specified offset of given channel using a buffer of specified
+     * capacity.
+     *
+     * @param source   the channel from which bytes are read.
+     * @param offset   the offset in the file of the first byte to read; must be non-negative.
+     * @param capacity the capacity of the buffer; must be positive.
+     */
+    public FileChannelByteInput(final FileChannel source, final long offset, final int capacity) {
+        super(source);
+        if (offset < 0L) {
+            throw new IllegalArgumentException("offset(" + offset + ") < 0");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") <= 0");
+        }
+        buffer = ByteBuffer.allocate(capacity);
+        buffer.limit(0);
+        position = offset;
+    }
+
+    /**
+     * Creates a new instance reading bytes from specified offset of given channel using a buffer of {@link
+     * #DEFAULT_CAPACITY}.
+     *
+     * @param source the channel from which bytes are read.
+     * @param offset the offset in the file of the first byte to read; must be non-negative.
+     */
+    public FileChannelByteInput(final FileChannel source, final long offset) {
+        this(source, offset, DEFAULT_CAPACITY);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Fills the buffer with bytes at {@link #position} of the file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void fill() throws IOException {
+        buffer.clear();
+        do {
+            final int read = getSource().read(buffer, position);
+            if (read == -1) {
+                buffer.flip();
+                throw new EOFException("the channel has reached end-of-stream");
+            }
+            position += read;
+        } while (buffer.position() == 0);
+        buffer.flip();
+    }
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code FileChannelByteInput} class returns the next byte in the
+     * buffer, filling it with a positional read when empty.
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (!buffer.hasRemaining()) {
+            fill();
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code FileChannelByteInput} class copies bytes
+     * remaining in the buffer and reads the rest directly into the array with positional reads.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length) throws IOException {
+        final int copied = Math.min(buffer.remaining(), length);
+        buffer.get(array, offset, copied);
+        if (copied == length) {
+            return;
+        }
+        buffer.limit(0);
+        final ByteBuffer target = ByteBuffer.wrap(array, offset + copied, length - copied);
+        while (target.hasRemaining()) {
+            final int read = getSource().read(target, position);
+            if (read == -1) {
+                throw new EOFException("the channel has reached end-of-stream");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code FileChannelByteInput} class advances the file offset
+     * beyond bytes remaining in the buffer without reading any bytes. Like the array and buffer inputs, it throws an
+     * {@link EOFException}, leaving the file offset at the end of the file, when the file has fewer bytes than
+     * {@code count}.
+     *
+     * @param count {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(final long count) throws IOException {
+        if (count < 0L) {
+            throw new IllegalArgumentException("count(" + count + ") < 0");
+        }
+        final int remaining = buffer.remaining();
+        if (count <= remaining) {
+            buffer.position(buffer.position() + (int) count);
+            return;
+        }
+        buffer.limit(0);
+        final long size = getSource().size();
+        if (count - remaining > size - position) {
+            position = Math.max(position, size);
+            throw new EOFException("the channel has reached end-of-stream");
+        }
+        position += count - remaining;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code markSupported()} method of {@code FileChannelByteInput} class returns {@code true}.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} The {@code mark()} method of {@code FileChannelByteInput} class stores the current file offset.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void mark() throws IOException {
+        mark = getPosition();
+    }
+
+    /**
+     * {@inheritDoc} The {@code reset()} method of {@code FileChannelByteInput} class moves the file offset back to the
+     * marked one.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void reset() throws IOException {
+        if (mark < 0L) {
+            throw new IllegalStateException("not marked");
+        }
+        setPosition(mark);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    /**
+     * Returns the offset in the file of the next byte to read.
+     *
+     * @return the offset of the next byte to read.
+     */
+    public long getPosition() {
+        return position - buffer.remaining();
+    }
+
+    /**
+     * Replaces the offset in the file of the next byte to read with given value.
+     *
+     * @param position new offset of the next byte to read; must be non-negative.
+     */
+    public void setPosition(final long position) {
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") < 0");
+        }
+        final long start = this.position - buffer.limit();
+        if (position >= start && position <= this.position) { // still in the buffer
+            buffer.position((int) (position - start));
+            return;
+        }
+        buffer.limit(0);
+        this.position = position;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffer of bytes read ahead from the file.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The offset in the file of the byte following the last one in {@link #buffer}.
+     */
+    private long position;
+
+    /**
+     * The marked file offset; {@code -1} if not marked.
+     */
+    private long mark = -1L;
+}
@@ -0,0 +1,552 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A canonical Huffman code of symbols from {@code 0} to {@code n - 1}. An instance is built from frequencies, with
+ * length-limited code lengths computed by the package-merge algorithm, or directly from code lengths, and codes are
+ * assigned canonically; shorter codes first, and in the order of symbols for codes of the same length. Symbols are
+ * decoded with multiple levels of lookup tables indexed by peeked bits so that most symbols take a single peek and a
+ * single skip. Instances are immutable and may be shared by multiple threads.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class HuffmanCode {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The maximum length of a code.
+     */
+    public static final int MAX_CODE_LENGTH = Integer.SIZE - 1;
+
+    /**
+     * The default maximum length of codes built from frequencies, which is raised when the number of symbols requires.
+     */
+    public static final int DEFAULT_MAX_CODE_LENGTH = 15;
+
+    /**
+     * The maximum number of bits indexing each lookup table.
+     */
+    private static final int TABLE_BITS = 10;
+
+    /**
+     * The number of bits of each table entry holding the length of the code.
+     */
+    private static final int LENGTH_BITS = 5;
+
+    /**
+     * The maximum number of symbols; each table entry holds a symbol along with its code length in a non-negative
+     * {@code int}.
+     */
+    public static final int MAX_SYMBOLS = 1 << (Integer.SIZE - 1 - LENGTH_BITS);
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with code lengths computed from given frequencies and limited to specified length.
+     * Symbols whose frequencies are zero get no codes. A single symbol of non-zero frequency gets a code of one bit.
+     *
+     * @param frequencies the frequencies of symbols; each must be non-negative and at least one must be positive.
+     * @param maxLength   the maximum length of codes; between {@code 1} and {@value #MAX_CODE_LENGTH}, both inclusive,
+     *                    and large enough for the number of symbols of non-zero frequencies.
+     * @return a new instance.
+     */
+    public static HuffmanCode ofFrequencies(final long[] frequencies, final int maxLength) {
+        if (frequencies == null) {
+            throw new NullPointerException("frequencies is null");
+        }
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("maxLength(" + maxLength + ") < 1");
+        }
+        if (maxLength > MAX_CODE_LENGTH) {
+            throw new IllegalArgumentException("maxLength(" + maxLength + ") > " + MAX_CODE_LENGTH);
+        }
+        int n = 0;
+        for (int i = 0; i < frequencies.length; i++) {
+            if (frequencies[i] < 0L) {
+                throw new IllegalArgumentException("frequencies[" + i + "](" + frequencies[i] + ") < 0");
+            }
+            if (frequencies[i] > 0L) {
+                n++;
+            }
+        }
+        if (n == 0) {
+            throw new IllegalArgumentException("no positive frequency");
+        }
+        if (n > 1L << maxLength) {
+            throw new IllegalArgumentException("maxLength(" + maxLength + ") too small for " + n + " symbols");
+        }
+        final Integer[] sorted = new Integer[n]; // symbols of non-zero frequencies in the order of frequencies
+        for (int i = 0, j = 0; i < frequencies.length; i++) {
+            if (frequencies[i] > 0L) {
+                sorted[j++] = i;
+            }
+        }
+        Arrays.sort(sorted, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer o1, final Integer o2) {
+                final long f1 = frequencies[o1];
+                final long f2 = frequencies[o2];
+                return f1 < f2 ? -1 : (f1 == f2 ? o1.compareTo(o2) : 1);
+            }
+        });
+        final int[] lengths = new int[frequencies.length];
+        if (n == 1) {
+            lengths[sorted[0]] = 1;
+            return new HuffmanCode(lengths);
+        }
+        final long[] leaves = new long[n];
+        for (int i = 0; i < n; i++) {
+            leaves[i] = frequencies[sorted[i]];
+        }
+        final int[] counts = packageMerge(leaves, maxLength);
+        for (int i = 0; i < n; i++) {
+            lengths[sorted[i]] = counts[i];
+        }
+        return new HuffmanCode(lengths);
+    }
+
+    /**
+     * Creates a new instance with code lengths computed from given frequencies and limited to {@link
+     * #DEFAULT_MAX_CODE_LENGTH}, or to the minimum length for the number of symbols if greater.
+     *
+     * @param frequencies the frequencies of symbols; each must be non-negative and at least one must be positive.
+     * @return a new instance.
+     * @see #ofFrequencies(long[], int)
+     */
+    public static HuffmanCode ofFrequencies(final long[] frequencies) {
+        if (frequencies == null) {
+            throw new NullPointerException("frequencies is null");
+        }
+        int maxLength = DEFAULT_MAX_CODE_LENGTH;
+        while (maxLength < MAX_CODE_LENGTH && 1L << maxLength < frequencies.length) {
+            maxLength++;
+        }
+        return ofFrequencies(frequencies, maxLength);
+    }
+
+    /**
+     * Creates a new instance with given code lengths.
+     *
+     * @param lengths the code lengths of symbols; {@code 0} for symbols without codes. Each must be between {@code 0}
+     *                and {@value #MAX_CODE_LENGTH}, both inclusive, at least one must be positive, and the lengths must
+     *                satisfy the Kraft inequality.
+     * @return a new instance.
+     */
+    public static HuffmanCode ofLengths(final int[] lengths) {
+        if (lengths == null) {
+            throw new NullPointerException("lengths is null");
+        }
+        return new HuffmanCode(lengths.clone());
+    }
+
+    /**
+     * Computes code lengths limited to specified length with the package-merge algorithm.
+     *
+     * @param leaves    the weights of symbols in ascending order; at least two.
+     * @param maxLength the maximum length.
+     * @return an array of code lengths of symbols, in the same order as {@code leaves}.
+     */
+    private static int[] packageMerge(final long[] leaves, final int maxLength) {
+        final int n = leaves.length;
+        // items of each level; a non-negative reference is a leaf and a negative one, ~i, is the package of items i and
+        // i + 1 of the next deeper level
+        final long[][] weights = new long[maxLength][];
+        final int[][] references = new int[maxLength][];
+        weights[maxLength - 1] = leaves.clone();
+        references[maxLength - 1] = new int[n];
+        for (int i = 0; i < n; i++) {
+            references[maxLength - 1][i] = i;
+        }
+        for (int level = maxLength - 2; level >= 0; level--) {
+            final long[] deeper = weights[level + 1];
+            final int packages = deeper.length / 2;
+            final long[] w = new long[n + packages];
+            final int[] r = new int[n + packages];
+            for (int i = 0, j = 0, k = 0; k < w.length; k++) {
+                final long packaged = j < packages ? deeper[j << 1] + deeper[(j << 1) + 1] : Long.MAX_VALUE;
+                if (i < n && (j == packages || leaves[i] <= packaged)) {
+                    w[k] = leaves[i];
+                    r[k] = i++;
+                } else {
+                    w[k] = packaged;
+                    r[k] = ~(j++ << 1);
+                }
+            }
+            weights[level] = w;
+            references[level] = r;
+        }
+        final int[] lengths = new int[n];
+        for (int k = 0; k < (n - 1) << 1; k++) {
+            count(references, 0, k, lengths);
+        }
+        return lengths;
+    }
+
+    /**
+     * Counts the leaves of specified item for their code lengths.
+     *
+     * @param references the references of items of all levels.
+     * @param level      the level of the item.
+     * @param index      the index of the item in {@code level}.
+     * @param lengths    the array of code lengths to increment.
+     */
+    private static void count(final int[][] references, final int level, final int index, final int[] lengths) {
+        final int reference = references[level][index];
+        if (reference >= 0) {
+            lengths[reference]++;
+            return;
+        }
+        count(references, level + 1, ~reference, lengths);
+        count(references, level + 1, ~reference + 1, lengths);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads a code table written by {@link #writeTable(BitOutput)}.
+     *
+     * @param input the bit input from which the table is read.
+     * @return a new instance.
+     * @throws IOException if an I/O error occurs or the table is malformed.
+     */
+    public static HuffmanCode readTable(final BitInput input) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        final long n = UniversalCodes.readEliasGamma(input);
+        if (n > MAX_SYMBOLS) {
+            throw new IOException("too many symbols(" + n + "); max: " + MAX_SYMBOLS);
+        }
+        final int[] lengths = new int[(int) n];
+        for (int i = 0, previous = 0; i < lengths.length; i++) {
+            final long length = previous + UniversalCodes.readSignedExpGolomb(input, 0);
+            if (length < 0L || length > MAX_CODE_LENGTH) {
+                throw new IOException("invalid code length(" + length + ") for symbol " + i);
+            }
+            lengths[i] = previous = (int) length;
+        }
+        try {
+            return new HuffmanCode(lengths);
+        } catch (final IllegalArgumentException iae) {
+            throw new IOException("invalid code lengths: " + iae.getMessage());
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given code lengths.
+     *
+     * @param lengths the code lengths of symbols, which are not copied.
+     */
+    private HuffmanCode(final int[] lengths) {
+        super();
+        if (lengths.length == 0) {
+            throw new IllegalArgumentException("lengths.length == 0");
+        }
+        if (lengths.length > MAX_SYMBOLS) {
+            throw new IllegalArgumentException("lengths.length(" + lengths.length + ") > " + MAX_SYMBOLS);
+        }
+        int maxLength = 0;
+        long kraft = 0L; // the Kraft sum scaled by 2^MAX_CODE_LENGTH
+        for (int i = 0; i < lengths.length; i++) {
+            if (lengths[i] < 0) {
+                throw new IllegalArgumentException("lengths[" + i + "](" + lengths[i] + ") < 0");
+            }
+            if (lengths[i] > MAX_CODE_LENGTH) {
+                throw new IllegalArgumentException("lengths[" + i + "](" + lengths[i] + ") > " + MAX_CODE_LENGTH);
+            }
+            if (lengths[i] > 0) {
+                kraft += 1L << (MAX_CODE_LENGTH - lengths[i]);
+                maxLength = Math.max(maxLength, lengths[i]);
+            }
+        }
+        if (maxLength == 0) {
+            throw new IllegalArgumentException("no positive length");
+        }
+        if (kraft > 1L << MAX_CODE_LENGTH) {
+            throw new IllegalArgumentException("lengths violate the Kraft inequality");
+        }
+        this.lengths = lengths;
+        this.maxLength = maxLength;
+        // canonical codes
+        final int[] counts = new int[maxLength + 1];
+        for (final int length : lengths) {
+            counts[length]++;
+        }
+        counts[0] = 0;
+        firstCodes = new int[maxLength + 1];
+        firstIndices = new int[maxLength + 1];
+        for (int length = 1, code = 0, index = 0; length <= maxLength; length++) {
+            code = (code + counts[length - 1]) << 1;
+            firstCodes[length] = code;
+            firstIndices[length] = index;
+            index += counts[length];
+        }
+        this.counts = counts;
+        codes = new int[lengths.length];
+        symbols = new int[lengths.length];
+        final int[] next = firstCodes.clone();
+        final int[] position = firstIndices.clone();
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            final int length = lengths[symbol];
+            if (length > 0) {
+                codes[symbol] = next[length]++;
+                symbols[position[length]++] = symbol;
+            }
+        }
+        // lookup tables
+        final List<int[]> tables = new ArrayList<int[]>();
+        final List<Integer> bits = new ArrayList<Integer>();
+        tables.add(new int[1 << Math.min(maxLength, TABLE_BITS)]);
+        bits.add(Math.min(maxLength, TABLE_BITS));
+        final int coded = firstIndices[maxLength] + counts[maxLength]; // the number of symbols with codes
+        for (int index = 0; index < coded; index++) {
+            final int symbol = symbols[index];
+            final int length = lengths[symbol];
+            final int code = codes[symbol];
+            int table = 0;
+            int consumed = 0;
+            while (length - consumed > bits.get(table)) {
+                final int b = bits.get(table);
+                final int slot = code >>> (length - consumed - b) & ((1 << b) - 1);
+                if (tables.get(table)[slot] == 0) {
+                    // codes sharing a prefix are contiguous in canonical order and the last one is the longest
+                    final int prefix = code >>> (length - consumed - b);
+                    int last = index;
+                    while (last + 1 < coded
+                           && codes[symbols[last + 1]] >>> (lengths[symbols[last + 1]] - consumed - b) == prefix) {
+                        last++;
+                    }
+                    final int childBits = Math.min(lengths[symbols[last]] - consumed - b, TABLE_BITS);
+                    tables.get(table)[slot] = ~tables.size();
+                    tables.add(new int[1 << childBits]);
+                    bits.add(childBits);
+                }
+                table = ~tables.get(table)[slot];
+                consumed += b;
+            }
+            final int b = bits.get(table);
+            final int rest = length - consumed;
+            final int from = (code & ((1 << rest) - 1)) << (b - rest);
+            Arrays.fill(tables.get(table), from, from + (1 << (b - rest)), symbol << LENGTH_BITS | length);
+        }
+        this.tables = tables.toArray(new int[tables.size()][]);
+        tableBits = new int[bits.size()];
+        for (int i = 0; i < tableBits.length; i++) {
+            tableBits[i] = bits.get(i);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes this code table so that {@link #readTable(BitInput)} reads it back; the number of symbols in Elias gamma
+     * code followed by the difference of each code length from the previous one in signed Exp-Golomb code.
+     *
+     * @param output the bit output to which the table is written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeTable(final BitOutput output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        UniversalCodes.writeEliasGamma(output, lengths.length);
+        for (int i = 0, previous = 0; i < lengths.length; previous = lengths[i++]) {
+            UniversalCodes.writeSignedExpGolomb(output, 0, lengths[i] - previous);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes the code of specified symbol.
+     *
+     * @param output the bit output to which the code is written.
+     * @param symbol the symbol whose code is written.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int write(final BitOutput output, final int symbol) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        final int length = length(symbol);
+        if (length == 0) {
+            throw new IllegalArgumentException("no code for symbol(" + symbol + ")");
+        }
+        output.writeInt(true, length, codes[symbol]);
+        return length;
+    }
+
+    /**
+     * Reads a code and returns its symbol. Bits of the longest code are peeked at once, and, only when less than those
+     * bits are left and the input throws an {@link EOFException} for the peek, bits are read one by one.
+     *
+     * @param input the bit input from which the code is read.
+     * @return the symbol of the code read.
+     * @throws IOException if an I/O error occurs or no symbol has the code read.
+     */
+    public int read(final BitInput input) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        final int peeked;
+        try {
+            peeked = input.peekInt(true, maxLength);
+        } catch (final EOFException eofe) {
+            return readBitByBit(input);
+        }
+        int entry;
+        for (int table = 0, consumed = 0; ; ) {
+            final int bits = tableBits[table];
+            entry = tables[table][peeked >>> (maxLength - consumed - bits) & ((1 << bits) - 1)];
+            if (entry >= 0) {
+                break;
+            }
+            table = ~entry;
+            consumed += bits;
+        }
+        final int length = entry & ((1 << LENGTH_BITS) - 1);
+        if (length == 0) {
+            throw new IOException("no symbol for code " + Integer.toBinaryString(peeked));
+        }
+        input.skip(length);
+        return entry >>> LENGTH_BITS;
+    }
+
+    /**
+     * Reads a code bit by bit and returns its symbol.
+     *
+     * @param input the bit input from which the code is read.
+     * @return the symbol of the code read.
+     * @throws IOException if an I/O error occurs or no symbol has the code read.
+     */
+    private int readBitByBit(final BitInput input) throws IOException {
+        int code = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            code = code << 1 | (input.readBoolean() ? 1 : 0);
+            final int offset = code - firstCodes[length];
+            if (offset >= 0 && offset < counts[length]) {
+                return symbols[firstIndices[length] + offset];
+            }
+        }
+        throw new IOException("no symbol for code " + Integer.toBinaryString(code));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of symbols, including those without codes.
+     *
+     * @return the number of symbols.
+     */
+    public int size() {
+        return lengths.length;
+    }
+
+    /**
+     * Returns the code length of specified symbol.
+     *
+     * @param symbol the symbol.
+     * @return the code length of {@code symbol}; {@code 0} if it has no code.
+     */
+    public int length(final int symbol) {
+        if (symbol < 0) {
+            throw new IllegalArgumentException("symbol(" + symbol + ") < 0");
+        }
+        if (symbol >= lengths.length) {
+            throw new IllegalArgumentException("symbol(" + symbol + ") >= " + lengths.length);
+        }
+        return lengths[symbol];
+    }
+
+    /**
+     * Returns the code of specified symbol.
+     *
+     * @param symbol the symbol.
+     * @return the code of {@code symbol} in its lower {@link #length(int) length} bits.
+     */
+    public int code(final int symbol) {
+        if (length(symbol) == 0) {
+            throw new IllegalArgumentException("no code for symbol(" + symbol + ")");
+        }
+        return codes[symbol];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The code lengths of symbols.
+     */
+    private final int[] lengths;
+
+    /**
+     * The length of the longest code.
+     */
+    private final int maxLength;
+
+    /**
+     * The number of codes of each length.
+     */
+    private final int[] counts;
+
+    /**
+     * The first canonical code of each length.
+     */
+    private final int[] firstCodes;
+
+    /**
+     * The index in {@link #symbols} of the first symbol of each length.
+     */
+    private final int[] firstIndices;
+
+    /**
+     * The codes of symbols.
+     */
+    private final int[] codes;
+
+    /**
+     * The symbols with codes in canonical order.
+     */
+    private final int[] symbols;
+
+    /**
+     * The lookup tables, the first of which is indexed by the leading bits of peeked ones. Each entry is either a
+     * symbol and its code length, packed as {@code symbol << 5 | length}, or the complement of the index of the table
+     * indexed by the following bits.
+     */
+    private final int[][] tables;
+
+    /**
+     * The number of bits indexing each of {@link #tables}.
+     */
+    private final int[] tableBits;
+}
@@ -0,0 +1,175 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static com.github.jinahya.bit.io.RandomAccessBitReader.word;
+
+/**
+ * A bit input reading bits from a file by mapping it into memory in segments. The file is divided into segments of a
+ * fixed size and each segment is mapped, with {@link FileChannel#map(FileChannel.MapMode, long, long)}, on demand along
+ * with eight following bytes, so that a value starting in a segment never needs another mapping. A new segment is
+ * mapped whenever reading, {@link #skip(long)}, {@link #seek(long)} or {@link #reset()} moves into it. Bits are read
+ * from the beginning of the file, whose size is taken at the time of construction, and the position of the channel is
+ * not changed.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see MappedBitOutput
+ */
+public final class MappedBitInput extends AbstractWordBitInput implements Closeable {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default size of each segment in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 28;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given channel and segment size.
+     *
+     * @param channel     the channel of the file from which bits are read.
+     * @param segmentSize the size of each segment in bytes; between {@code 1} and {@code Integer.MAX_VALUE - 8}, both
+     *                    inclusive.
+     * @throws IOException if an I/O error occurs.
+     */
+    public MappedBitInput(final FileChannel channel, final int segmentSize) throws IOException {
+        super();
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize(" + segmentSize + ") <= 0");
+        }
+        if (segmentSize > Integer.MAX_VALUE - Long.SIZE / Byte.SIZE) {
+            throw new IllegalArgumentException(
+                    "segmentSize(" + segmentSize + ") > " + (Integer.MAX_VALUE - Long.SIZE / Byte.SIZE));
+        }
+        this.channel = channel;
+        this.segmentSize = segmentSize;
+        this.length = channel.size();
+        this.limit = length * Byte.SIZE;
+    }
+
+    /**
+     * Creates a new instance with given channel and {@link #DEFAULT_SEGMENT_SIZE}.
+     *
+     * @param channel the channel of the file from which bits are read.
+     * @throws IOException if an I/O error occurs.
+     */
+    public MappedBitInput(final FileChannel channel) throws IOException {
+        this(channel, DEFAULT_SEGMENT_SIZE);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code close()} method of {@code MappedBitInput} class closes the channel.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Maps, if not mapped yet, the segment containing the byte at specified offset.
+     *
+     * @param octet the offset of the byte in the file.
+     * @return the index of the byte in the mapped segment.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int locate(final long octet) throws IOException {
+        if (segment == null || octet < base || octet - base >= segmentSize) {
+            base = octet - octet % segmentSize;
+            final long size = Math.min(segmentSize + (long) (Long.SIZE / Byte.SIZE), length - base);
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, base, size);
+        }
+        return (int) (octet - base);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    long peek64(final int size) throws IOException {
+        final int octet = locate(index >> 3);
+        final int shift = (int) index & 7;
+        long value = word(segment, octet) << shift;
+        if (shift + size > Long.SIZE) {
+            value |= (segment.get(octet + Long.SIZE / Byte.SIZE) & 0xFFL) >>> (Byte.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - size);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    /**
+     * Moves the bit index to specified position. Any byte of the file may be reached, forward or backward.
+     *
+     * @param position the new bit index from the beginning of the file; between {@code 0} and {@code size * 8}, both
+     *                 inclusive.
+     * @see #position()
+     */
+    public void seek(final long position) {
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") < 0");
+        }
+        if (position > limit) {
+            throw new IllegalArgumentException("position(" + position + ") > " + limit);
+        }
+        index = position;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The channel of the file from which bits are read.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The size of each segment in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The size of the file in bytes.
+     */
+    private final long length;
+
+    /**
+     * The current segment, with eight following bytes; {@code null} if not mapped yet.
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * The offset of the current segment in the file; a multiple of {@link #segmentSize}.
+     */
+    private long base;
+}
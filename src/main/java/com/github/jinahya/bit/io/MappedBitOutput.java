@@ -0,0 +1,254 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A bit output writing bits to a file by mapping it into memory in segments. The file is divided into segments of a
+ * fixed size and each segment is mapped, with {@link FileChannel#map(FileChannel.MapMode, long, long)}, on demand
+ * along with eight following bytes, which grows the file by a whole segment at a time. Bits are written from the
+ * beginning of the file and {@link #close()} truncates the file to the number of bytes written, including the last
+ * partial byte, if any.
+ * <p>
+ * Segments no longer in use are unmapped eagerly, where the platform allows it, rather than left to the garbage
+ * collector, so that the file is not mapped anymore when it is truncated.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see MappedBitInput
+ */
+public final class MappedBitOutput extends AbstractWordBitOutput implements Flushable, Closeable {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default size of each segment in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = MappedBitInput.DEFAULT_SEGMENT_SIZE;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Unmaps specified buffer, on a best-effort basis, via {@code sun.misc.Unsafe#invokeCleaner(ByteBuffer)} on Java 9
+     * or later, or via the {@code cleaner()} of the buffer on earlier versions. The mapping is left to the garbage
+     * collector if neither is accessible. The buffer must not be accessed after this method returns.
+     *
+     * @param buffer the buffer to unmap.
+     */
+    private static void unmap(final MappedByteBuffer buffer) {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (final Exception e) {
+            // not available before Java 9; falls through
+        }
+        try {
+            final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (final Exception e) {
+            // left to the garbage collector
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given channel and segment size.
+     *
+     * @param channel     the channel of the file to which bits are written; must be opened for both reading and
+     *                    writing.
+     * @param segmentSize the size of each segment in bytes; between {@code 1} and {@code Integer.MAX_VALUE - 8}, both
+     *                    inclusive.
+     */
+    public MappedBitOutput(final FileChannel channel, final int segmentSize) {
+        super();
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize(" + segmentSize + ") <= 0");
+        }
+        if (segmentSize > Integer.MAX_VALUE - Long.SIZE / Byte.SIZE) {
+            throw new IllegalArgumentException(
+                    "segmentSize(" + segmentSize + ") > " + (Integer.MAX_VALUE - Long.SIZE / Byte.SIZE));
+        }
+        this.channel = channel;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Creates a new instance with given channel and {@link #DEFAULT_SEGMENT_SIZE}.
+     *
+     * @param channel the channel of the file to which bits are written; must be opened for both reading and writing.
+     */
+    public MappedBitOutput(final FileChannel channel) {
+        this(channel, DEFAULT_SEGMENT_SIZE);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code flush()} method of {@code MappedBitOutput} class forces the content of the current
+     * segment to be written to the storage device.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code close()} method of {@code MappedBitOutput} class flushes and unmaps the current
+     * segment, truncates the file to the number of bytes written, and closes the channel. Closing a closed output has
+     * no effect.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            try {
+                flush();
+            } finally {
+                release();
+            }
+            channel.truncate((index + Byte.SIZE - 1) >> 3);
+        } finally {
+            channel.close();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Unmaps the current segment, if any, and clears it.
+     */
+    private void release() {
+        if (segment != null) {
+            final MappedByteBuffer released = segment;
+            segment = null;
+            unmap(released);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Maps, if not mapped yet, the segment containing the byte at specified offset.
+     *
+     * @param octet the offset of the byte in the file.
+     * @return the index of the byte in the mapped segment.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int locate(final long octet) throws IOException {
+        if (segment == null || octet < base || octet - base >= segmentSize) {
+            if (segment != null) {
+                try {
+                    segment.force();
+                } finally {
+                    release();
+                }
+            }
+            base = octet - octet % segmentSize;
+            final long size = segmentSize + (long) (Long.SIZE / Byte.SIZE);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, base, size);
+        }
+        return (int) (octet - base);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void put(final int size, final long value) throws IOException {
+        final int octet = locate(index >> 3);
+        final int shift = (int) index & 7;
+        final int tail = shift + size - Long.SIZE; // the number of bits spilling to the ninth byte
+        if (tail > 0) {
+            store(octet, shift, size - tail, value >>> tail);
+            segment.put(octet + Long.SIZE / Byte.SIZE, (byte) (value << (Byte.SIZE - tail)));
+        } else {
+            store(octet, shift, size, value);
+        }
+    }
+
+    /**
+     * Stores specified bits, following the leading bits of the byte at specified index, and zeros for the rest of the
+     * word.
+     *
+     * @param octet the index of the first byte in the current segment.
+     * @param shift the number of leading bits of the first byte to preserve.
+     * @param size  the number of bits to write; {@code shift + size} is not greater than {@value Long#SIZE}.
+     * @param value the value whose lower {@code size} bits are written.
+     */
+    private void store(final int octet, final int shift, final int size, final long value) {
+        final long word = ((long) segment.get(octet) << (Long.SIZE - Byte.SIZE) & ~(-1L >>> shift))
+                          | (value << (Long.SIZE - size) >>> shift);
+        segment.putLong(octet, word);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The channel of the file to which bits are written.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The size of each segment in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The current segment, with eight following bytes; {@code null} if not mapped yet.
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * The offset of the current segment in the file; a multiple of {@link #segmentSize}.
+     */
+    private long base;
+
+    /**
+     * A flag for whether this output has been closed.
+     */
+    private boolean closed;
+}
@@ -0,0 +1,192 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A decoder of byte-aligned messages from a non-blocking channel. Each invocation of {@link #read(Handler)} reads
+ * whatever bytes the channel has, without blocking, and decodes as many complete messages as the buffered bytes hold,
+ * passing each of them to a handler. When the buffered bytes run out in the middle of a message the attempt is
+ * abandoned and retried, from the beginning of that message, on a later invocation which reads more bytes; an
+ * invocation reading no bytes returns without any attempt. A single bit input is reused for all attempts. Invoking
+ * {@link #read(Handler)} whenever a {@link java.nio.channels.Selector} reports the channel readable lets a few threads
+ * serve many connections.
+ *
+ * @param <T> message type parameter
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class NonBlockingBitDecoder<T> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An interface for decoding a single message.
+     *
+     * @param <T> message type parameter
+     */
+    public interface Decoder<T> {
+
+        /**
+         * Decodes a message from given bit input. An {@link EOFException} thrown by the bit input must be propagated
+         * as is; the decoding will be retried with more bytes.
+         *
+         * @param input the bit input from which the message is decoded.
+         * @return the decoded message.
+         * @throws IOException if an I/O error occurs.
+         */
+        T decode(BitInput input) throws IOException;
+    }
+
+    /**
+     * An interface for handling decoded messages.
+     *
+     * @param <T> message type parameter
+     */
+    public interface Handler<T> {
+
+        /**
+         * Invoked with each decoded message.
+         *
+         * @param message the decoded message.
+         * @throws IOException if an I/O error occurs.
+         */
+        void completed(T message) throws IOException;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     *
+     * @param channel  the channel from which bytes are read; should be configured non-blocking.
+     * @param decoder  the decoder for each message.
+     * @param capacity the initial capacity of the buffer; grows as required by the longest message.
+     */
+    public NonBlockingBitDecoder(final ReadableByteChannel channel, final Decoder<? extends T> decoder,
+                                 final int capacity) {
+        super();
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (decoder == null) {
+            throw new NullPointerException("decoder is null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") <= 0");
+        }
+        this.channel = channel;
+        this.decoder = decoder;
+        this.buffer = ByteBuffer.allocate(capacity);
+        this.input = new BufferBitInput(buffer);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads available bytes from the channel, without blocking, and decodes as many complete messages as possible.
+     *
+     * @param handler the handler for each decoded message.
+     * @return the number of messages decoded; or {@code -1} if the channel has reached end-of-stream and no bytes are
+     * left.
+     * @throws EOFException if the channel has reached end-of-stream in the middle of a message.
+     * @throws IOException  if an I/O error occurs.
+     */
+    public int read(final Handler<? super T> handler) throws IOException {
+        if (handler == null) {
+            throw new NullPointerException("handler is null");
+        }
+        if (!buffer.hasRemaining()) {
+            final ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() << 1);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+        final int read = channel.read(buffer);
+        if (read == 0 && drained) { // the buffered bytes, if any, are what the last attempt failed with
+            return 0;
+        }
+        drained = false;
+        buffer.flip();
+        int count = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                input.reuse(buffer);
+                final T message;
+                try {
+                    message = decoder.decode(input);
+                    input.align(1);
+                } catch (final EOFException eofe) {
+                    if (read == -1) {
+                        throw eofe;
+                    }
+                    drained = true;
+                    break;
+                }
+                if (input.position() == 0L) {
+                    throw new IllegalStateException("decoder consumed no bits");
+                }
+                buffer.position(buffer.position() + (int) (input.position() >> 3));
+                handler.completed(message);
+                count++;
+            }
+            if (!buffer.hasRemaining()) {
+                drained = true;
+            }
+        } finally {
+            buffer.compact();
+        }
+        if (read == -1 && count == 0) {
+            return -1;
+        }
+        return count;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The channel from which bytes are read.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * The decoder for each message.
+     */
+    private final Decoder<? extends T> decoder;
+
+    /**
+     * The buffer of bytes read but not decoded yet; always in the state of being filled.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The bit input reused for each message.
+     */
+    private final BufferBitInput input;
+
+    /**
+     * A flag for indicating that no complete message is left in the buffer.
+     */
+    private boolean drained;
+}
@@ -0,0 +1,994 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.github.jinahya.bit.io.ExtendedBitInput.readSignedVarLong;
+import static com.github.jinahya.bit.io.ExtendedBitInput.readUnsignedVarInt;
+import static com.github.jinahya.bit.io.ExtendedBitOutput.writeSignedVarLong;
+import static com.github.jinahya.bit.io.ExtendedBitOutput.writeUnsignedVarInt;
+
+/**
+ * A utility class for arrays of integers bit-packed in blocks with patched frame of reference. Each block holds, in
+ * order:
+ * <ul>
+ * <li>the reference, the minimum of the values other than exceptions, as a ZigZag-encoded variable-length
+ * integer,</li>
+ * <li>the bit width, {@code b}, of offsets from the reference,</li>
+ * <li>the {@code b}-bit offset of each value, or zero for each exception,</li>
+ * <li>the number of exceptions as a variable-length integer, and</li>
+ * <li>for each exception, its index in the block followed by its value as a ZigZag-encoded variable-length
+ * integer.</li>
+ * </ul>
+ * The width and the reference of each block are chosen to minimize the size of the block so that outliers, either
+ * small or large, don't widen the other values. An array is written as its length, as a variable-length integer,
+ * followed by its blocks, and the same block size should be used for reading it back.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see ExtendedBitOutput#writeUnsignedVarInt(BitOutput, int)
+ * @see ExtendedBitOutput#writeSignedVarLong(BitOutput, long)
+ */
+public final class PackedBlocks {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default number of values of each block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+
+    /**
+     * The maximum number of values of each block.
+     */
+    public static final int MAX_BLOCK_SIZE = 1 << 16;
+
+    /**
+     * The number of bits for widths of offsets of {@code int} values; from {@code 0} to {@value Integer#SIZE}.
+     */
+    private static final int INT_WIDTH_BITS = 6;
+
+    /**
+     * The number of bits for widths of offsets of {@code long} values; from {@code 0} to {@value Long#SIZE}.
+     */
+    private static final int LONG_WIDTH_BITS = 7;
+
+    /**
+     * The maximum width of offsets unpacked with unrolled methods.
+     */
+    private static final int MAX_UNROLLED_WIDTH = 16;
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static int requireValidBlockSize(final int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize(" + blockSize + ") <= 0");
+        }
+        if (blockSize > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("blockSize(" + blockSize + ") > " + MAX_BLOCK_SIZE);
+        }
+        return blockSize;
+    }
+
+    /**
+     * Returns the number of bits for indices of values in a block of specified size.
+     *
+     * @param blockSize the block size.
+     * @return the number of bits for indices.
+     */
+    private static int indexBits(final int blockSize) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(blockSize - 1);
+    }
+
+    /**
+     * Checks whether given unsigned offset fits in specified number of bits.
+     *
+     * @param offset the unsigned offset.
+     * @param width  the number of bits; between {@code 0} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return {@code true} if {@code offset} fits in {@code width} bits; {@code false} otherwise.
+     */
+    private static boolean fits(final long offset, final int width) {
+        return width == Long.SIZE || offset >>> width == 0L;
+    }
+
+    /**
+     * Returns the number of bits of given value as a ZigZag-encoded variable-length integer.
+     *
+     * @param value the value.
+     * @return the number of bits written by {@link ExtendedBitOutput#writeSignedVarLong(BitOutput, long)}.
+     */
+    private static int varBits(final long value) {
+        final long zigzag = value << 1 ^ value >> (Long.SIZE - 1);
+        final int width = Long.SIZE - Long.numberOfLeadingZeros(zigzag);
+        final int groupSize = ExtendedBitOutput.LEB128_GROUP_SIZE;
+        return Math.max((width + groupSize - 1) / groupSize, 1) * (groupSize + 1);
+    }
+
+    /**
+     * Reads an unsigned value of specified number of bits.
+     *
+     * @param input the bit input.
+     * @param size  the number of bits; between {@code 0} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static long bits(final BitInput input, final int size) throws IOException {
+        if (size == 0) {
+            return 0L;
+        }
+        return input.readLong(size < Long.SIZE, size);
+    }
+
+    /**
+     * Writes the lower specified number of bits of given value.
+     *
+     * @param output the bit output.
+     * @param size   the number of bits; between {@code 0} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param value  the value whose lower {@code size} bits are written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void bits(final BitOutput output, final int size, final long value) throws IOException {
+        if (size > 0) {
+            output.writeLong(size < Long.SIZE, size, value);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes the lower specified number of bits of each of given offsets, packing as many offsets as fit in a single
+     * {@code writeLong} call.
+     *
+     * @param output  the bit output.
+     * @param offsets the offsets.
+     * @param length  the number of offsets.
+     * @param width   the number of bits of each offset.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void pack(final BitOutput output, final long[] offsets, final int length, final int width)
+            throws IOException {
+        if (width == 0) {
+            return;
+        }
+        if (width > Integer.SIZE - 1) {
+            for (int i = 0; i < length; i++) {
+                bits(output, width, offsets[i]);
+            }
+            return;
+        }
+        final int group = (Long.SIZE - 1) / width;
+        final long mask = (1L << width) - 1L;
+        for (int i = 0; i < length; i += group) {
+            final int count = Math.min(group, length - i);
+            long word = 0L;
+            for (int j = 0; j < count; j++) {
+                word = word << width | offsets[i + j] & mask;
+            }
+            output.writeLong(true, count * width, word);
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight offsets of specified number of bits with a method unrolled for the
+     * width.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @param width   the number of bits of each offset; between {@code 1} and {@value #MAX_UNROLLED_WIDTH}, both
+     *                inclusive.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpackGroups(final BitInput input, final long[] offsets, final int from, final int groups,
+                                     final int width)
+            throws IOException {
+        switch (width) {
+            case 1:
+                unpack1(input, offsets, from, groups);
+                break;
+            case 2:
+                unpack2(input, offsets, from, groups);
+                break;
+            case 3:
+                unpack3(input, offsets, from, groups);
+                break;
+            case 4:
+                unpack4(input, offsets, from, groups);
+                break;
+            case 5:
+                unpack5(input, offsets, from, groups);
+                break;
+            case 6:
+                unpack6(input, offsets, from, groups);
+                break;
+            case 7:
+                unpack7(input, offsets, from, groups);
+                break;
+            case 8:
+                unpack8(input, offsets, from, groups);
+                break;
+            case 9:
+                unpack9(input, offsets, from, groups);
+                break;
+            case 10:
+                unpack10(input, offsets, from, groups);
+                break;
+            case 11:
+                unpack11(input, offsets, from, groups);
+                break;
+            case 12:
+                unpack12(input, offsets, from, groups);
+                break;
+            case 13:
+                unpack13(input, offsets, from, groups);
+                break;
+            case 14:
+                unpack14(input, offsets, from, groups);
+                break;
+            case 15:
+                unpack15(input, offsets, from, groups);
+                break;
+            case 16:
+                unpack16(input, offsets, from, groups);
+                break;
+            default:
+                throw new AssertionError("width(" + width + ") > " + MAX_UNROLLED_WIDTH);
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 1-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack1(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            final long word = input.readLong(true, 8);
+            offsets[i] = word >>> 7;
+            offsets[i + 1] = word >>> 6 & 0x1L;
+            offsets[i + 2] = word >>> 5 & 0x1L;
+            offsets[i + 3] = word >>> 4 & 0x1L;
+            offsets[i + 4] = word >>> 3 & 0x1L;
+            offsets[i + 5] = word >>> 2 & 0x1L;
+            offsets[i + 6] = word >>> 1 & 0x1L;
+            offsets[i + 7] = word & 0x1L;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 2-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack2(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            final long word = input.readLong(true, 16);
+            offsets[i] = word >>> 14;
+            offsets[i + 1] = word >>> 12 & 0x3L;
+            offsets[i + 2] = word >>> 10 & 0x3L;
+            offsets[i + 3] = word >>> 8 & 0x3L;
+            offsets[i + 4] = word >>> 6 & 0x3L;
+            offsets[i + 5] = word >>> 4 & 0x3L;
+            offsets[i + 6] = word >>> 2 & 0x3L;
+            offsets[i + 7] = word & 0x3L;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 3-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack3(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            final long word = input.readLong(true, 24);
+            offsets[i] = word >>> 21;
+            offsets[i + 1] = word >>> 18 & 0x7L;
+            offsets[i + 2] = word >>> 15 & 0x7L;
+            offsets[i + 3] = word >>> 12 & 0x7L;
+            offsets[i + 4] = word >>> 9 & 0x7L;
+            offsets[i + 5] = word >>> 6 & 0x7L;
+            offsets[i + 6] = word >>> 3 & 0x7L;
+            offsets[i + 7] = word & 0x7L;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 4-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack4(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            final long word = input.readLong(true, 32);
+            offsets[i] = word >>> 28;
+            offsets[i + 1] = word >>> 24 & 0xFL;
+            offsets[i + 2] = word >>> 20 & 0xFL;
+            offsets[i + 3] = word >>> 16 & 0xFL;
+            offsets[i + 4] = word >>> 12 & 0xFL;
+            offsets[i + 5] = word >>> 8 & 0xFL;
+            offsets[i + 6] = word >>> 4 & 0xFL;
+            offsets[i + 7] = word & 0xFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 5-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack5(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            final long word = input.readLong(true, 40);
+            offsets[i] = word >>> 35;
+            offsets[i + 1] = word >>> 30 & 0x1FL;
+            offsets[i + 2] = word >>> 25 & 0x1FL;
+            offsets[i + 3] = word >>> 20 & 0x1FL;
+            offsets[i + 4] = word >>> 15 & 0x1FL;
+            offsets[i + 5] = word >>> 10 & 0x1FL;
+            offsets[i + 6] = word >>> 5 & 0x1FL;
+            offsets[i + 7] = word & 0x1FL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 6-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack6(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            final long word = input.readLong(true, 48);
+            offsets[i] = word >>> 42;
+            offsets[i + 1] = word >>> 36 & 0x3FL;
+            offsets[i + 2] = word >>> 30 & 0x3FL;
+            offsets[i + 3] = word >>> 24 & 0x3FL;
+            offsets[i + 4] = word >>> 18 & 0x3FL;
+            offsets[i + 5] = word >>> 12 & 0x3FL;
+            offsets[i + 6] = word >>> 6 & 0x3FL;
+            offsets[i + 7] = word & 0x3FL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 7-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack7(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            final long word = input.readLong(true, 56);
+            offsets[i] = word >>> 49;
+            offsets[i + 1] = word >>> 42 & 0x7FL;
+            offsets[i + 2] = word >>> 35 & 0x7FL;
+            offsets[i + 3] = word >>> 28 & 0x7FL;
+            offsets[i + 4] = word >>> 21 & 0x7FL;
+            offsets[i + 5] = word >>> 14 & 0x7FL;
+            offsets[i + 6] = word >>> 7 & 0x7FL;
+            offsets[i + 7] = word & 0x7FL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 8-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack8(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 32);
+            offsets[i] = word >>> 24;
+            offsets[i + 1] = word >>> 16 & 0xFFL;
+            offsets[i + 2] = word >>> 8 & 0xFFL;
+            offsets[i + 3] = word & 0xFFL;
+            word = input.readLong(true, 32);
+            offsets[i + 4] = word >>> 24;
+            offsets[i + 5] = word >>> 16 & 0xFFL;
+            offsets[i + 6] = word >>> 8 & 0xFFL;
+            offsets[i + 7] = word & 0xFFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 9-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack9(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 36);
+            offsets[i] = word >>> 27;
+            offsets[i + 1] = word >>> 18 & 0x1FFL;
+            offsets[i + 2] = word >>> 9 & 0x1FFL;
+            offsets[i + 3] = word & 0x1FFL;
+            word = input.readLong(true, 36);
+            offsets[i + 4] = word >>> 27;
+            offsets[i + 5] = word >>> 18 & 0x1FFL;
+            offsets[i + 6] = word >>> 9 & 0x1FFL;
+            offsets[i + 7] = word & 0x1FFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 10-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack10(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 40);
+            offsets[i] = word >>> 30;
+            offsets[i + 1] = word >>> 20 & 0x3FFL;
+            offsets[i + 2] = word >>> 10 & 0x3FFL;
+            offsets[i + 3] = word & 0x3FFL;
+            word = input.readLong(true, 40);
+            offsets[i + 4] = word >>> 30;
+            offsets[i + 5] = word >>> 20 & 0x3FFL;
+            offsets[i + 6] = word >>> 10 & 0x3FFL;
+            offsets[i + 7] = word & 0x3FFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 11-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack11(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 44);
+            offsets[i] = word >>> 33;
+            offsets[i + 1] = word >>> 22 & 0x7FFL;
+            offsets[i + 2] = word >>> 11 & 0x7FFL;
+            offsets[i + 3] = word & 0x7FFL;
+            word = input.readLong(true, 44);
+            offsets[i + 4] = word >>> 33;
+            offsets[i + 5] = word >>> 22 & 0x7FFL;
+            offsets[i + 6] = word >>> 11 & 0x7FFL;
+            offsets[i + 7] = word & 0x7FFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 12-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack12(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 48);
+            offsets[i] = word >>> 36;
+            offsets[i + 1] = word >>> 24 & 0xFFFL;
+            offsets[i + 2] = word >>> 12 & 0xFFFL;
+            offsets[i + 3] = word & 0xFFFL;
+            word = input.readLong(true, 48);
+            offsets[i + 4] = word >>> 36;
+            offsets[i + 5] = word >>> 24 & 0xFFFL;
+            offsets[i + 6] = word >>> 12 & 0xFFFL;
+            offsets[i + 7] = word & 0xFFFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 13-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack13(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 52);
+            offsets[i] = word >>> 39;
+            offsets[i + 1] = word >>> 26 & 0x1FFFL;
+            offsets[i + 2] = word >>> 13 & 0x1FFFL;
+            offsets[i + 3] = word & 0x1FFFL;
+            word = input.readLong(true, 52);
+            offsets[i + 4] = word >>> 39;
+            offsets[i + 5] = word >>> 26 & 0x1FFFL;
+            offsets[i + 6] = word >>> 13 & 0x1FFFL;
+            offsets[i + 7] = word & 0x1FFFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 14-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack14(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 56);
+            offsets[i] = word >>> 42;
+            offsets[i + 1] = word >>> 28 & 0x3FFFL;
+            offsets[i + 2] = word >>> 14 & 0x3FFFL;
+            offsets[i + 3] = word & 0x3FFFL;
+            word = input.readLong(true, 56);
+            offsets[i + 4] = word >>> 42;
+            offsets[i + 5] = word >>> 28 & 0x3FFFL;
+            offsets[i + 6] = word >>> 14 & 0x3FFFL;
+            offsets[i + 7] = word & 0x3FFFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 15-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack15(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(true, 60);
+            offsets[i] = word >>> 45;
+            offsets[i + 1] = word >>> 30 & 0x7FFFL;
+            offsets[i + 2] = word >>> 15 & 0x7FFFL;
+            offsets[i + 3] = word & 0x7FFFL;
+            word = input.readLong(true, 60);
+            offsets[i + 4] = word >>> 45;
+            offsets[i + 5] = word >>> 30 & 0x7FFFL;
+            offsets[i + 6] = word >>> 15 & 0x7FFFL;
+            offsets[i + 7] = word & 0x7FFFL;
+        }
+    }
+
+    /**
+     * Unpacks specified number of groups of eight 16-bit offsets.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param groups  the number of groups.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack16(final BitInput input, final long[] offsets, final int from, final int groups)
+            throws IOException {
+        for (int i = from, end = from + (groups << 3); i < end; i += 8) {
+            long word = input.readLong(false, 64);
+            offsets[i] = word >>> 48;
+            offsets[i + 1] = word >>> 32 & 0xFFFFL;
+            offsets[i + 2] = word >>> 16 & 0xFFFFL;
+            offsets[i + 3] = word & 0xFFFFL;
+            word = input.readLong(false, 64);
+            offsets[i + 4] = word >>> 48;
+            offsets[i + 5] = word >>> 32 & 0xFFFFL;
+            offsets[i + 6] = word >>> 16 & 0xFFFFL;
+            offsets[i + 7] = word & 0xFFFFL;
+        }
+    }
+
+    /**
+     * Reads specified number of offsets of specified number of bits. Offsets of up to {@value #MAX_UNROLLED_WIDTH}
+     * bits are unpacked in groups of eight with methods unrolled for each width, and the rest, including those
+     * following the last group, are unpacked as many as fit in a single {@code readLong} call.
+     *
+     * @param input   the bit input.
+     * @param offsets the array to which offsets are stored.
+     * @param from    the index of {@code offsets} for the first offset.
+     * @param length  the number of offsets.
+     * @param width   the number of bits of each offset.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void unpack(final BitInput input, final long[] offsets, int from, int length, final int width)
+            throws IOException {
+        if (width == 0) {
+            Arrays.fill(offsets, from, from + length, 0L);
+            return;
+        }
+        if (width <= MAX_UNROLLED_WIDTH) {
+            final int groups = length >> 3;
+            unpackGroups(input, offsets, from, groups, width);
+            from += groups << 3;
+            length &= 7;
+        }
+        if (width > Integer.SIZE - 1) {
+            for (int i = from; i < from + length; i++) {
+                offsets[i] = bits(input, width);
+            }
+            return;
+        }
+        final int group = (Long.SIZE - 1) / width;
+        final long mask = (1L << width) - 1L;
+        for (int i = from; i < from + length; i += group) {
+            final int count = Math.min(group, from + length - i);
+            final long word = input.readLong(true, count * width);
+            for (int j = count - 1, shift = 0; j >= 0; j--, shift += width) {
+                offsets[i + j] = word >>> shift & mask;
+            }
+        }
+    }
+
+    /**
+     * Writes a block of values, choosing the width and the reference which minimize the size of the block.
+     *
+     * @param output    the bit output.
+     * @param values    the values.
+     * @param from      the index of the first value of the block.
+     * @param length    the number of values of the block.
+     * @param indexBits the number of bits for indices of exceptions.
+     * @param widthBits the number of bits for widths.
+     * @param maxWidth  the maximum width.
+     * @param scratch   an array, of at least {@code length} elements, for sorted values and offsets.
+     * @param costs     an array, of at least {@code length + 1} elements, for cumulative costs of exceptions.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void writeBlock(final BitOutput output, final long[] values, final int from, final int length,
+                                   final int indexBits, final int widthBits, final int maxWidth,
+                                   final long[] scratch, final long[] costs)
+            throws IOException {
+        System.arraycopy(values, from, scratch, 0, length);
+        Arrays.sort(scratch, 0, length);
+        costs[0] = 0L;
+        for (int i = 0; i < length; i++) {
+            costs[i + 1] = costs[i] + indexBits + varBits(scratch[i]);
+        }
+        // for each width, slide a window over sorted values; values out of the window are exceptions
+        int width = maxWidth;
+        long reference = scratch[0];
+        long best = Long.MAX_VALUE;
+        for (int w = 0; w <= maxWidth; w++) {
+            for (int i = 0, j = 0; i < length; i++) {
+                while (j < length && fits(scratch[j] - scratch[i], w)) {
+                    j++;
+                }
+                final long size = (long) length * w + costs[i] + (costs[length] - costs[j]);
+                if (size < best) {
+                    best = size;
+                    width = w;
+                    reference = scratch[i];
+                }
+                if (j == length) {
+                    break;
+                }
+            }
+        }
+        int exceptions = 0;
+        for (int i = 0; i < length; i++) {
+            final long value = values[from + i];
+            if (value >= reference && fits(value - reference, width)) {
+                scratch[i] = value - reference;
+            } else {
+                scratch[i] = 0L;
+                exceptions++;
+            }
+        }
+        writeSignedVarLong(output, reference);
+        output.writeInt(true, widthBits, width);
+        pack(output, scratch, length, width);
+        writeUnsignedVarInt(output, exceptions);
+        for (int i = 0; exceptions > 0; i++) {
+            final long value = values[from + i];
+            if (value < reference || !fits(value - reference, width)) {
+                bits(output, indexBits, i);
+                writeSignedVarLong(output, value);
+                exceptions--;
+            }
+        }
+    }
+
+    /**
+     * Reads a block of values.
+     *
+     * @param input     the bit input.
+     * @param values    the array to which values are stored.
+     * @param from      the index of the first value of the block.
+     * @param length    the number of values of the block.
+     * @param indexBits the number of bits for indices of exceptions.
+     * @param widthBits the number of bits for widths.
+     * @param maxWidth  the maximum width.
+     * @throws IOException if an I/O error occurs or the block is malformed.
+     */
+    private static void readBlock(final BitInput input, final long[] values, final int from, final int length,
+                                  final int indexBits, final int widthBits, final int maxWidth)
+            throws IOException {
+        final long reference = readSignedVarLong(input);
+        final int width = input.readInt(true, widthBits);
+        if (width > maxWidth) {
+            throw new IOException("width(" + width + ") > " + maxWidth);
+        }
+        unpack(input, values, from, length, width);
+        for (int i = from; i < from + length; i++) {
+            values[i] += reference;
+        }
+        final int exceptions = readUnsignedVarInt(input);
+        if (exceptions < 0 || exceptions > length) {
+            throw new IOException("invalid number of exceptions(" + exceptions + "); length: " + length);
+        }
+        for (int e = 0; e < exceptions; e++) {
+            final int index = (int) bits(input, indexBits);
+            if (index >= length) {
+                throw new IOException("index(" + index + ") >= " + length);
+            }
+            values[from + index] = readSignedVarLong(input);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified array of {@code int} values in blocks of specified size.
+     *
+     * @param output    the bit output to which values are written.
+     * @param blockSize the number of values of each block; between {@code 1} and {@value #MAX_BLOCK_SIZE}, both
+     *                  inclusive.
+     * @param values    the values to write.
+     * @return the number of values written.
+     * @throws IOException if an I/O error occurs.
+     * @see #readInts(BitInput, int)
+     */
+    public static int writeInts(final BitOutput output, final int blockSize, final int[] values) throws IOException {
+        if (values == null) {
+            throw new NullPointerException("values is null");
+        }
+        final long[] longs = new long[values.length];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = values[i];
+        }
+        return write(output, blockSize, longs, INT_WIDTH_BITS, Integer.SIZE);
+    }
+
+    /**
+     * Writes specified array of {@code int} values in blocks of {@value #DEFAULT_BLOCK_SIZE} values.
+     *
+     * @param output the bit output to which values are written.
+     * @param values the values to write.
+     * @return the number of values written.
+     * @throws IOException if an I/O error occurs.
+     * @see #readInts(BitInput)
+     */
+    public static int writeInts(final BitOutput output, final int[] values) throws IOException {
+        return writeInts(output, DEFAULT_BLOCK_SIZE, values);
+    }
+
+    /**
+     * Reads an array of {@code int} values written in blocks of specified size.
+     *
+     * @param input     the bit input from which values are read.
+     * @param blockSize the number of values of each block; between {@code 1} and {@value #MAX_BLOCK_SIZE}, both
+     *                  inclusive.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs or the input is malformed.
+     * @see #writeInts(BitOutput, int, int[])
+     */
+    public static int[] readInts(final BitInput input, final int blockSize) throws IOException {
+        final long[] longs = read(input, blockSize, INT_WIDTH_BITS, Integer.SIZE);
+        final int[] values = new int[longs.length];
+        for (int i = 0; i < values.length; i++) {
+            if (longs[i] < Integer.MIN_VALUE || longs[i] > Integer.MAX_VALUE) {
+                throw new IOException("value(" + longs[i] + ") out of range of int");
+            }
+            values[i] = (int) longs[i];
+        }
+        return values;
+    }
+
+    /**
+     * Reads an array of {@code int} values written in blocks of {@value #DEFAULT_BLOCK_SIZE} values.
+     *
+     * @param input the bit input from which values are read.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs or the input is malformed.
+     * @see #writeInts(BitOutput, int[])
+     */
+    public static int[] readInts(final BitInput input) throws IOException {
+        return readInts(input, DEFAULT_BLOCK_SIZE);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified array of {@code long} values in blocks of specified size.
+     *
+     * @param output    the bit output to which values are written.
+     * @param blockSize the number of values of each block; between {@code 1} and {@value #MAX_BLOCK_SIZE}, both
+     *                  inclusive.
+     * @param values    the values to write.
+     * @return the number of values written.
+     * @throws IOException if an I/O error occurs.
+     * @see #readLongs(BitInput, int)
+     */
+    public static int writeLongs(final BitOutput output, final int blockSize, final long[] values)
+            throws IOException {
+        if (values == null) {
+            throw new NullPointerException("values is null");
+        }
+        return write(output, blockSize, values, LONG_WIDTH_BITS, Long.SIZE);
+    }
+
+    /**
+     * Writes specified array of {@code long} values in blocks of {@value #DEFAULT_BLOCK_SIZE} values.
+     *
+     * @param output the bit output to which values are written.
+     * @param values the values to write.
+     * @return the number of values written.
+     * @throws IOException if an I/O error occurs.
+     * @see #readLongs(BitInput)
+     */
+    public static int writeLongs(final BitOutput output, final long[] values) throws IOException {
+        return writeLongs(output, DEFAULT_BLOCK_SIZE, values);
+    }
+
+    /**
+     * Reads an array of {@code long} values written in blocks of specified size.
+     *
+     * @param input     the bit input from which values are read.
+     * @param blockSize the number of values of each block; between {@code 1} and {@value #MAX_BLOCK_SIZE}, both
+     *                  inclusive.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs or the input is malformed.
+     * @see #writeLongs(BitOutput, int, long[])
+     */
+    public static long[] readLongs(final BitInput input, final int blockSize) throws IOException {
+        return read(input, blockSize, LONG_WIDTH_BITS, Long.SIZE);
+    }
+
+    /**
+     * Reads an array of {@code long} values written in blocks of {@value #DEFAULT_BLOCK_SIZE} values.
+     *
+     * @param input the bit input from which values are read.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs or the input is malformed.
+     * @see #writeLongs(BitOutput, long[])
+     */
+    public static long[] readLongs(final BitInput input) throws IOException {
+        return readLongs(input, DEFAULT_BLOCK_SIZE);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified values, as the length followed by blocks.
+     *
+     * @param output    the bit output.
+     * @param blockSize the number of values of each block.
+     * @param values    the values.
+     * @param widthBits the number of bits for widths.
+     * @param maxWidth  the maximum width.
+     * @return the number of values written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static int write(final BitOutput output, final int blockSize, final long[] values, final int widthBits,
+                             final int maxWidth)
+            throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        requireValidBlockSize(blockSize);
+        writeUnsignedVarInt(output, values.length);
+        final long[] scratch = new long[Math.min(blockSize, values.length)];
+        final long[] costs = new long[scratch.length + 1];
+        for (int from = 0; from < values.length; from += blockSize) {
+            writeBlock(output, values, from, Math.min(blockSize, values.length - from), indexBits(blockSize),
+                       widthBits, maxWidth, scratch, costs);
+        }
+        return values.length;
+    }
+
+    /**
+     * Reads values written by {@link #write(BitOutput, int, long[], int, int)}.
+     *
+     * @param input     the bit input.
+     * @param blockSize the number of values of each block.
+     * @param widthBits the number of bits for widths.
+     * @param maxWidth  the maximum width.
+     * @return an array of values.
+     * @throws IOException if an I/O error occurs or the input is malformed.
+     */
+    private static long[] read(final BitInput input, final int blockSize, final int widthBits, final int maxWidth)
+            throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        requireValidBlockSize(blockSize);
+        final int length = readUnsignedVarInt(input);
+        if (length < 0) {
+            throw new IOException("invalid length(" + (length & 0xFFFFFFFFL) + ")");
+        }
+        final long[] values = new long[length];
+        for (int from = 0; from < values.length; from += blockSize) {
+            readBlock(input, values, from, Math.min(blockSize, values.length - from), indexBits(blockSize),
+                      widthBits, maxWidth);
+        }
+        return values;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private PackedBlocks() {
+        super();
+    }
+}
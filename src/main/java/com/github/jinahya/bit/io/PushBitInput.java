@@ -0,0 +1,149 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+
+import static com.github.jinahya.bit.io.RandomAccessBitReader.word;
+
+/**
+ * A bit input which is fed with chunks of bytes as they arrive. Bytes are pushed with {@link #feed(ByteBuffer)} or
+ * {@link #feed(byte[], int, int)} and bits are read from them as long as {@link #available()} says. A read which
+ * needs more bits than available throws an {@link EOFException} without consuming anything, so that decoding may
+ * resume from the exact same bit once more bytes are fed. Decoders which prefer not to throw should check {@link
+ * #available()} before each read. The {@link #position()} method returns the number of bits read since the creation
+ * and bytes fed from the position of the last {@link #mark()} are kept until the next mark.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class PushBitInput extends AbstractWordBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with specified initial capacity.
+     *
+     * @param capacity the initial capacity of the internal buffer in bytes; must be positive.
+     */
+    public PushBitInput(final int capacity) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") <= 0");
+        }
+        source = new byte[capacity];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Appends specified bytes of given array to the bits available for reading.
+     *
+     * @param array  the array of bytes to append.
+     * @param offset the starting index in {@code array}.
+     * @param length the number of bytes to append.
+     */
+    public void feed(final byte[] array, final int offset, final int length) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset(" + offset + ") < 0");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("length(" + length + ") < 0");
+        }
+        if (offset + length > array.length) {
+            throw new IllegalArgumentException(
+                    "offset(" + offset + ") + length(" + length + ") > array.length(" + array.length + ")");
+        }
+        System.arraycopy(array, offset, room(length), (int) (limit >> 3), length);
+        limit += length * (long) Byte.SIZE;
+    }
+
+    /**
+     * Appends all remaining bytes of given buffer to the bits available for reading. The position of the buffer is
+     * advanced to its limit.
+     *
+     * @param buffer the buffer whose remaining bytes are appended.
+     */
+    public void feed(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        final int length = buffer.remaining();
+        buffer.get(room(length), (int) (limit >> 3), length);
+        limit += length * (long) Byte.SIZE;
+    }
+
+    /**
+     * Returns the number of bits available for reading without feeding more bytes.
+     *
+     * @return the number of available bits.
+     */
+    public long available() {
+        return limit - index;
+    }
+
+    /**
+     * Makes room for specified number of bytes, discarding bytes no longer needed and growing the internal buffer as
+     * required, and returns the internal buffer.
+     *
+     * @param length the number of bytes to append.
+     * @return the internal buffer.
+     */
+    private byte[] room(final int length) {
+        final long kept = mark < 0L ? index : Math.min(index, origin + mark);
+        final int dropped = (int) (kept >> 3);
+        final int used = (int) (limit >> 3) - dropped;
+        if (dropped > 0) {
+            System.arraycopy(source, dropped, source, 0, used);
+            index -= dropped * (long) Byte.SIZE;
+            limit -= dropped * (long) Byte.SIZE;
+            origin -= dropped * (long) Byte.SIZE;
+        }
+        if (source.length - used < length) {
+            final byte[] grown = new byte[Math.max(source.length << 1, used + length)];
+            System.arraycopy(source, 0, grown, 0, used);
+            source = grown;
+        }
+        return source;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    long peek64(final int size) {
+        final int octet = (int) (index >> 3);
+        final int shift = (int) index & 7;
+        long value = word(source, octet) << shift;
+        if (shift + size > Long.SIZE) {
+            value |= (source[octet + Long.SIZE / Byte.SIZE] & 0xFFL) >>> (Byte.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - size);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The internal buffer of bytes fed.
+     */
+    private byte[] source;
+}
@@ -0,0 +1,176 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned64;
+
+/**
+ * A class for reading bits at arbitrary offsets of byte arrays and byte buffers without any cursor state. Bits are
+ * read in the same order as {@link AbstractBitInput} does; the bit at offset {@code 0} is the most significant bit of
+ * the first byte. Methods of this class never modify given arrays or buffers, so that multiple threads can read the
+ * same source concurrently.
+ *
+ * @see RandomAccessBitReader#getBits(byte[], long, int)
+ * @see RandomAccessBitReader#getBits(ByteBuffer, long, int)
+ */
+public final class RandomAccessBitReader {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Checks whether specified range of bits resides in given number of bytes.
+     *
+     * @param length    the number of bytes.
+     * @param bitOffset the offset of the first bit.
+     * @param size      the number of bits.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    static void requireValidRange(final int length, final long bitOffset, final int size) {
+        if (bitOffset < 0L) {
+            throw new IndexOutOfBoundsException("bitOffset(" + bitOffset + ") < 0");
+        }
+        if (bitOffset + size > length * (long) Byte.SIZE) {
+            throw new IndexOutOfBoundsException(
+                    "bitOffset(" + bitOffset + ") + size(" + size + ") > " + length * (long) Byte.SIZE);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads an unsigned value of specified number of bits starting at specified bit offset of given array.
+     *
+     * @param array     the array from which bits are read.
+     * @param bitOffset the offset of the first bit to read; between {@code 0} and {@code array.length * 8 - size},
+     *                  both inclusive.
+     * @param size      the number of bits to read; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IndexOutOfBoundsException if specified bits are out of bounds of {@code array}.
+     */
+    public static long getBits(final byte[] array, final long bitOffset, final int size) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        requireValidSizeUnsigned64(size);
+        requireValidRange(array.length, bitOffset, size);
+        final int index = (int) (bitOffset >> 3);
+        final int shift = (int) bitOffset & 7;
+        long value = word(array, index) << shift;
+        if (shift + size > Long.SIZE) {
+            value |= (array[index + Long.SIZE / Byte.SIZE] & 0xFFL) >>> (Byte.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - size);
+    }
+
+    /**
+     * Reads an unsigned value of specified number of bits starting at specified bit offset of given buffer. The bit
+     * offset is relative to the index {@code 0} of the buffer, regardless of its current position, and bits are read
+     * with absolute get methods so that neither the position nor the limit of the buffer is changed.
+     *
+     * @param buffer    the buffer from which bits are read.
+     * @param bitOffset the offset of the first bit to read; between {@code 0} and {@code buffer.limit() * 8 - size},
+     *                  both inclusive.
+     * @param size      the number of bits to read; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IndexOutOfBoundsException if specified bits are out of bounds of {@code buffer}'s limit.
+     */
+    public static long getBits(final ByteBuffer buffer, final long bitOffset, final int size) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        requireValidSizeUnsigned64(size);
+        requireValidRange(buffer.limit(), bitOffset, size);
+        final int index = (int) (bitOffset >> 3);
+        final int shift = (int) bitOffset & 7;
+        long value = word(buffer, index) << shift;
+        if (shift + size > Long.SIZE) {
+            value |= (buffer.get(index + Long.SIZE / Byte.SIZE) & 0xFFL) >>> (Byte.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - size);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads eight bytes starting at specified index of given array as a big-endian value. Bytes beyond the end of the
+     * array are read as zeros.
+     *
+     * @param array the array.
+     * @param index the index of the first byte.
+     * @return a big-endian value of eight bytes.
+     */
+    static long word(final byte[] array, final int index) {
+        if (array.length - index >= Long.SIZE / Byte.SIZE) {
+            return ((long) array[index] << 56)
+                   | ((array[index + 1] & 0xFFL) << 48)
+                   | ((array[index + 2] & 0xFFL) << 40)
+                   | ((array[index + 3] & 0xFFL) << 32)
+                   | ((array[index + 4] & 0xFFL) << 24)
+                   | ((array[index + 5] & 0xFFL) << 16)
+                   | ((array[index + 6] & 0xFFL) << 8)
+                   | (array[index + 7] & 0xFFL);
+        }
+        long word = 0L;
+        for (int i = 0; i < Long.SIZE / Byte.SIZE; i++) {
+            word <<= Byte.SIZE;
+            if (index + i < array.length) {
+                word |= array[index + i] & 0xFFL;
+            }
+        }
+        return word;
+    }
+
+    /**
+     * Reads eight bytes starting at specified index of given buffer as a big-endian value, regardless of the buffer's
+     * byte order. Bytes beyond the limit of the buffer are read as zeros.
+     *
+     * @param buffer the buffer.
+     * @param index  the index of the first byte.
+     * @return a big-endian value of eight bytes.
+     */
+    static long word(final ByteBuffer buffer, final int index) {
+        final int limit = buffer.limit();
+        if (limit - index >= Long.SIZE / Byte.SIZE) {
+            final long word = buffer.getLong(index);
+            return buffer.order() == ByteOrder.BIG_ENDIAN ? word : Long.reverseBytes(word);
+        }
+        long word = 0L;
+        for (int i = 0; i < Long.SIZE / Byte.SIZE; i++) {
+            word <<= Byte.SIZE;
+            if (index + i < limit) {
+                word |= buffer.get(index + i) & 0xFFL;
+            }
+        }
+        return word;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private RandomAccessBitReader() {
+        super();
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned64;
+import static com.github.jinahya.bit.io.RandomAccessBitReader.requireValidRange;
+import static com.github.jinahya.bit.io.RandomAccessBitReader.word;
+
+/**
+ * A class for writing bits at arbitrary offsets of preallocated byte arrays and byte buffers without any cursor
+ * state. Bits are written in the same order as {@link AbstractBitOutput} does; the bit at offset {@code 0} is the most
+ * significant bit of the first byte. Bits outside of the specified range are preserved, and only bytes covering the
+ * range are written, so that multiple threads can concurrently fill regions which don't share any byte.
+ *
+ * @see RandomAccessBitReader
+ */
+public final class RandomAccessBitWriter {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes the lower specified number of bits of given value starting at specified bit offset of given array.
+     *
+     * @param array     the array to which bits are written.
+     * @param bitOffset the offset of the first bit to write; between {@code 0} and {@code array.length * 8 - size},
+     *                  both inclusive.
+     * @param size      the number of bits to write; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *                  inclusive.
+     * @param value     the value whose lower {@code size} bits are written.
+     * @throws IndexOutOfBoundsException if specified bits are out of bounds of {@code array}.
+     */
+    public static void setBits(final byte[] array, final long bitOffset, final int size, final long value) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        requireValidSizeUnsigned64(size);
+        requireValidRange(array.length, bitOffset, size);
+        final int index = (int) (bitOffset >> 3);
+        final int shift = (int) bitOffset & 7;
+        final int tail = shift + size - Long.SIZE; // the number of bits spilling to the ninth byte
+        if (tail > 0) {
+            final int last = index + Long.SIZE / Byte.SIZE;
+            array[last] = (byte) merge(array[last], tail, (int) value);
+            set(array, index, shift, size - tail, value >>> tail);
+            return;
+        }
+        set(array, index, shift, size, value);
+    }
+
+    /**
+     * Writes the lower specified number of bits of given value starting at specified bit offset of given buffer. The
+     * bit offset is relative to the index {@code 0} of the buffer, regardless of its current position, and bits are
+     * written with absolute put methods so that neither the position nor the limit of the buffer is changed.
+     *
+     * @param buffer    the buffer to which bits are written.
+     * @param bitOffset the offset of the first bit to write; between {@code 0} and {@code buffer.limit() * 8 - size},
+     *                  both inclusive.
+     * @param size      the number of bits to write; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *                  inclusive.
+     * @param value     the value whose lower {@code size} bits are written.
+     * @throws IndexOutOfBoundsException if specified bits are out of bounds of {@code buffer}'s limit.
+     */
+    public static void setBits(final ByteBuffer buffer, final long bitOffset, final int size, final long value) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        requireValidSizeUnsigned64(size);
+        requireValidRange(buffer.limit(), bitOffset, size);
+        final int index = (int) (bitOffset >> 3);
+        final int shift = (int) bitOffset & 7;
+        final int tail = shift + size - Long.SIZE; // the number of bits spilling to the ninth byte
+        if (tail > 0) {
+            final int last = index + Long.SIZE / Byte.SIZE;
+            buffer.put(last, (byte) merge(buffer.get(last), tail, (int) value));
+            set(buffer, index, shift, size - tail, value >>> tail);
+            return;
+        }
+        set(buffer, index, shift, size, value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Replaces the higher specified number of bits of given octet with the lower bits of given value.
+     *
+     * @param octet the octet.
+     * @param size  the number of bits to replace; between {@code 1} and {@code 7}, both inclusive.
+     * @param value the value whose lower {@code size} bits are used.
+     * @return the merged octet.
+     */
+    private static int merge(final int octet, final int size, final int value) {
+        final int keep = 0xFF >>> size;
+        return (octet & keep) | ((value << (Byte.SIZE - size)) & ~keep & 0xFF);
+    }
+
+    /**
+     * Replaces specified bits in the word starting at specified index of given array and writes back the bytes
+     * covering them.
+     *
+     * @param array the array.
+     * @param index the index of the first byte.
+     * @param shift the number of leading bits of the first byte to preserve.
+     * @param size  the number of bits to replace; {@code shift + size} is not greater than {@value Long#SIZE}.
+     * @param value the value whose lower {@code size} bits are written.
+     */
+    private static void set(final byte[] array, final int index, final int shift, final int size, final long value) {
+        final int end = shift + size;
+        final long mask = (-1L >>> (Long.SIZE - size)) << (Long.SIZE - end);
+        final long word = (word(array, index) & ~mask) | ((value << (Long.SIZE - end)) & mask);
+        for (int i = 0, bytes = (end + 7) >> 3; i < bytes; i++) {
+            array[index + i] = (byte) (word >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+        }
+    }
+
+    /**
+     * Replaces specified bits in the word starting at specified index of given buffer and writes back the bytes
+     * covering them.
+     *
+     * @param buffer the buffer.
+     * @param index  the index of the first byte.
+     * @param shift  the number of leading bits of the first byte to preserve.
+     * @param size   the number of bits to replace; {@code shift + size} is not greater than {@value Long#SIZE}.
+     * @param value  the value whose lower {@code size} bits are written.
+     */
+    private static void set(final ByteBuffer buffer, final int index, final int shift, final int size,
+                            final long value) {
+        final int end = shift + size;
+        final long mask = (-1L >>> (Long.SIZE - size)) << (Long.SIZE - end);
+        final long word = (word(buffer, index) & ~mask) | ((value << (Long.SIZE - end)) & mask);
+        final int bytes = (end + 7) >> 3;
+        if (bytes == Long.SIZE / Byte.SIZE) {
+            buffer.putLong(index, buffer.order() == ByteOrder.BIG_ENDIAN ? word : Long.reverseBytes(word));
+            return;
+        }
+        for (int i = 0; i < bytes; i++) {
+            buffer.put(index + i, (byte) (word >>> (Long.SIZE - Byte.SIZE * (i + 1))));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private RandomAccessBitWriter() {
+        super();
+    }
+}
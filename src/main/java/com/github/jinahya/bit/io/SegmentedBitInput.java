@@ -0,0 +1,130 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+
+import static com.github.jinahya.bit.io.RandomAccessBitReader.word;
+
+/**
+ * A bit input reading bits from an array of byte buffers, either heap or direct, as if they were a single buffer
+ * addressed with a {@code long} index. This class is for data larger than a single {@link ByteBuffer} can address; see
+ * {@link BufferSegments} for the layout of the segments. A value is read with a single 64-bit load unless it crosses
+ * the end of a segment. Neither the position nor the limit of any segment is changed.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see SegmentedBitOutput
+ * @see MappedBitInput
+ */
+public final class SegmentedBitInput extends AbstractWordBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given segments.
+     *
+     * @param segments the segments from which bits are read.
+     * @see BufferSegments#allocate(long, int, boolean)
+     */
+    public SegmentedBitInput(final ByteBuffer[] segments) {
+        super();
+        this.segmentSize = BufferSegments.requireValidSegments(segments);
+        this.segments = segments.clone();
+        this.length = BufferSegments.length(segments);
+        this.limit = length * Byte.SIZE;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the byte at specified offset; zero if the offset is not less than the total length.
+     *
+     * @param octet the offset of the byte.
+     * @return the unsigned value of the byte at {@code octet}.
+     */
+    private long octet(final long octet) {
+        if (octet >= length) {
+            return 0L;
+        }
+        return segments[(int) (octet / segmentSize)].get((int) (octet % segmentSize)) & 0xFFL;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    long peek64(final int size) {
+        final long octet = index >> 3;
+        final int shift = (int) index & 7;
+        final ByteBuffer segment = segments[(int) (octet / segmentSize)];
+        final int offset = (int) (octet % segmentSize);
+        long value;
+        long next;
+        if (segment.limit() - offset > Long.SIZE / Byte.SIZE) {
+            value = word(segment, offset);
+            next = segment.get(offset + Long.SIZE / Byte.SIZE) & 0xFFL;
+        } else { // crossing, or touching, the end of the segment
+            value = 0L;
+            for (int i = 0; i < Long.SIZE / Byte.SIZE; i++) {
+                value = value << Byte.SIZE | octet(octet + i);
+            }
+            next = octet(octet + Long.SIZE / Byte.SIZE);
+        }
+        value <<= shift;
+        if (shift + size > Long.SIZE) {
+            value |= next >>> (Byte.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - size);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    /**
+     * Moves the bit index to specified position, forward or backward.
+     *
+     * @param position the new bit index from the beginning of the first segment; between {@code 0} and the total
+     *                 number of bits, both inclusive.
+     * @see #position()
+     */
+    public void seek(final long position) {
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") < 0");
+        }
+        if (position > limit) {
+            throw new IllegalArgumentException("position(" + position + ") > " + limit);
+        }
+        index = position;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The segments from which bits are read.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * The size of each segment but the last one in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The total number of bytes of {@link #segments}.
+     */
+    private final long length;
+}
@@ -0,0 +1,116 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A bit output writing bits to an array of byte buffers, either heap or direct, as if they were a single buffer
+ * addressed with a {@code long} index. This class is for data larger than a single {@link ByteBuffer} can address; see
+ * {@link BufferSegments} for the layout of the segments. A value is stored with a single 64-bit store unless it
+ * crosses the end of a segment. Neither the position nor the limit of any segment is changed. Bits following the last
+ * written one in the same byte are always zeros, while bytes after that byte may be overwritten.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see SegmentedBitInput
+ * @see MappedBitOutput
+ */
+public final class SegmentedBitOutput extends AbstractWordBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with given segments.
+     *
+     * @param segments the segments to which bits are written.
+     * @see BufferSegments#allocate(long, int, boolean)
+     */
+    public SegmentedBitOutput(final ByteBuffer[] segments) {
+        super();
+        this.segmentSize = BufferSegments.requireValidSegments(segments);
+        this.segments = segments.clone();
+        this.length = BufferSegments.length(segments);
+        this.limit = length * Byte.SIZE;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void put(final int size, final long value) throws IOException {
+        if (index + size > limit) {
+            throw new IOException("no room for " + size + " bit(s); index: " + index + ", limit: " + limit);
+        }
+        final long octet = index >> 3;
+        final int shift = (int) index & 7;
+        final ByteBuffer segment = segments[(int) (octet / segmentSize)];
+        final int offset = (int) (octet % segmentSize);
+        final int tail = shift + size - Long.SIZE; // the number of bits spilling to the ninth byte
+        final int bits = tail > 0 ? size - tail : size;
+        final long word = ((long) segment.get(offset) << (Long.SIZE - Byte.SIZE) & ~(-1L >>> shift))
+                          | ((tail > 0 ? value >>> tail : value) << (Long.SIZE - bits) >>> shift);
+        if (segment.limit() - offset > Long.SIZE / Byte.SIZE) {
+            segment.putLong(offset, segment.order() == ByteOrder.BIG_ENDIAN ? word : Long.reverseBytes(word));
+            if (tail > 0) {
+                segment.put(offset + Long.SIZE / Byte.SIZE, (byte) (value << (Byte.SIZE - tail)));
+            }
+        } else { // crossing, or touching, the end of the segment
+            for (int i = 0, bytes = (shift + bits + 7) >> 3; i < bytes; i++) {
+                octet(octet + i, (byte) (word >>> (Long.SIZE - Byte.SIZE * (i + 1))));
+            }
+            if (tail > 0) {
+                octet(octet + Long.SIZE / Byte.SIZE, (byte) (value << (Byte.SIZE - tail)));
+            }
+        }
+    }
+
+    /**
+     * Stores given byte at specified offset.
+     *
+     * @param octet the offset of the byte; less than the total length.
+     * @param value the byte to store.
+     */
+    private void octet(final long octet, final byte value) {
+        segments[(int) (octet / segmentSize)].put((int) (octet % segmentSize), value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The segments to which bits are written.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * The size of each segment but the last one in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The total number of bytes of {@link #segments}.
+     */
+    private final long length;
+
+    /**
+     * The total number of bits of {@link #segments}.
+     */
+    private final long limit;
+}
@@ -64,6 +64,95 @@ public class StreamByteInput<T extends InputStream> extends AbstractByteInput<T>
         return value;
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code StreamByteInput} class reads the first byte via
+     * {@link #read()} and the rest via {@link InputStream#read(byte[], int, int)} until all bytes are read.
+     *
+     * @param array  {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, int offset, int length) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        array[offset++] = (byte) read();
+        length--;
+        while (length > 0) {
+            final int read = getSource().read(array, offset, length);
+            if (read == -1) {
+                throw new EOFException("reached to an end");
+            }
+            offset += read;
+            length -= read;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code StreamByteInput} class invokes {@link
+     * InputStream#skip(long)} for all but the last byte, falling back to {@link #read()} whenever the stream skips no
+     * bytes, and reads the last byte via {@link #read()}. Streams such as {@link java.io.FileInputStream} may skip past
+     * the end of the stream and report success, so the last byte is read to detect the end of the stream.
+     *
+     * @param count {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(final long count) throws IOException {
+        if (count <= 0L) {
+            return;
+        }
+        long remaining = count - 1L;
+        while (remaining > 0L) {
+            final long skipped = getSource().skip(remaining);
+            if (skipped <= 0L) {
+                read();
+                remaining--;
+                continue;
+            }
+            remaining -= skipped;
+        }
+        read(); // throws an EOFException if the stream skipped past its end
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code markSupported()} method of {@code StreamByteInput} class returns the result of {@link
+     * InputStream#markSupported()} invoked on what {@link #getSource()} gives, or {@code false} if it's {@code null}.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        final T source = getSource();
+        return source != null && source.markSupported();
+    }
+
+    /**
+     * {@inheritDoc} The {@code mark()} method of {@code StreamByteInput} class invokes {@link InputStream#mark(int)},
+     * on what {@link #getSource()} gives, with {@link Integer#MAX_VALUE}.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void mark() throws IOException {
+        getSource().mark(Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc} The {@code reset()} method of {@code StreamByteInput} class invokes {@link InputStream#reset()} on
+     * what {@link #getSource()} gives.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void reset() throws IOException {
+        getSource().reset();
+    }
+
     // ---------------------------------------------------------------------------------------------------------- source
 
     /**
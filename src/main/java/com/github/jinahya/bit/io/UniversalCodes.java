@@ -0,0 +1,455 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * A utility class for universal codes of non-negative integers; Elias gamma, Elias delta, Exp-Golomb of order
+ * {@code k}, Golomb with parameter {@code m} and Rice with parameter {@code k}. Each unary part is written as zeros
+ * followed by a single one, so that decoders count leading zeros of a peeked window of bits with {@link
+ * Integer#numberOfLeadingZeros(int)} rather than reading bits one by one. Binary parts are written most significant
+ * bit first. With order {@code 0}, {@link #writeExpGolomb(BitOutput, int, long)} and {@link
+ * #writeSignedExpGolomb(BitOutput, int, long)} produce {@code ue(v)} and {@code se(v)} of H.264 and HEVC.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class UniversalCodes {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The number of bits peeked at once for counting leading zeros.
+     */
+    private static final int WINDOW = Integer.SIZE - 1;
+
+    /**
+     * The maximum number of leading zeros of a code whose binary part fits in a {@code long}.
+     */
+    private static final int MAX_ZEROS = Long.SIZE - 1;
+
+    /**
+     * The maximum parameter of Golomb code whose truncated binary remainder takes at most {@code 62} bits.
+     */
+    public static final long MAX_GOLOMB_PARAMETER = 1L << (Long.SIZE - 2);
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads leading zeros and the one following them.
+     *
+     * @param input the bit input.
+     * @return the number of zeros read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static long zeros(final BitInput input) throws IOException {
+        long zeros = 0L;
+        while (true) {
+            final int window;
+            try {
+                window = input.peekInt(true, WINDOW);
+            } catch (final EOFException eofe) { // less than WINDOW bits left; peeked octets are kept
+                while (!input.readBoolean()) {
+                    zeros++;
+                }
+                return zeros;
+            }
+            if (window != 0) {
+                final int leading = Integer.numberOfLeadingZeros(window) - (Integer.SIZE - WINDOW);
+                input.skip(leading + 1);
+                return zeros + leading;
+            }
+            input.skip(WINDOW);
+            zeros += WINDOW;
+        }
+    }
+
+    /**
+     * Reads leading zeros, and the one following them, of a code whose binary part should fit in a {@code long}.
+     *
+     * @param input the bit input.
+     * @param max   the maximum number of zeros.
+     * @return the number of zeros read.
+     * @throws IOException if an I/O error occurs or more than {@code max} zeros are read.
+     */
+    private static int zeros(final BitInput input, final int max) throws IOException {
+        final long zeros = zeros(input);
+        if (zeros > max) {
+            throw new IOException("too many leading zeros(" + zeros + "); max: " + max);
+        }
+        return (int) zeros;
+    }
+
+    /**
+     * Writes specified number of zeros followed by a one.
+     *
+     * @param output the bit output.
+     * @param zeros  the number of zeros.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void zeros(final BitOutput output, long zeros) throws IOException {
+        for (; zeros > 0L; zeros -= MAX_ZEROS) {
+            output.writeLong(true, (int) Math.min(zeros, MAX_ZEROS), 0L);
+        }
+        output.writeBoolean(true);
+    }
+
+    /**
+     * Reads an unsigned value of specified number of bits.
+     *
+     * @param input the bit input.
+     * @param size  the number of bits; between {@code 0} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static long bits(final BitInput input, final int size) throws IOException {
+        if (size == 0) {
+            return 0L;
+        }
+        return input.readLong(size < Long.SIZE, size);
+    }
+
+    /**
+     * Writes the lower specified number of bits of given value.
+     *
+     * @param output the bit output.
+     * @param size   the number of bits; between {@code 0} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param value  the value whose lower {@code size} bits are written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void bits(final BitOutput output, final int size, final long value) throws IOException {
+        if (size > 0) {
+            output.writeLong(size < Long.SIZE, size, value);
+        }
+    }
+
+    /**
+     * Returns the index of the highest one bit of given positive value.
+     *
+     * @param value the value.
+     * @return {@code floor(log2(value))}.
+     */
+    private static int log2(final long value) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long requirePositive(final long value) {
+        if (value <= 0L) {
+            throw new IllegalArgumentException("value(" + value + ") <= 0");
+        }
+        return value;
+    }
+
+    private static long requireValidGolombParameter(final long m) {
+        if (m <= 0L) {
+            throw new IllegalArgumentException("m(" + m + ") <= 0");
+        }
+        if (m > MAX_GOLOMB_PARAMETER) {
+            throw new IllegalArgumentException("m(" + m + ") > " + MAX_GOLOMB_PARAMETER);
+        }
+        return m;
+    }
+
+    private static long requireNonNegative(final long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("value(" + value + ") < 0");
+        }
+        return value;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- Elias gamma
+
+    /**
+     * Reads a value encoded in Elias gamma code.
+     *
+     * @param input the bit input.
+     * @return a positive value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long readEliasGamma(final BitInput input) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        final int n = zeros(input, MAX_ZEROS - 1);
+        return 1L << n | bits(input, n);
+    }
+
+    /**
+     * Writes given value in Elias gamma code; {@code floor(log2(value))} zeros followed by the value in binary.
+     *
+     * @param output the bit output.
+     * @param value  the value to write; must be positive.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int writeEliasGamma(final BitOutput output, final long value) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        final int n = log2(requirePositive(value));
+        zeros(output, n);
+        bits(output, n, value);
+        return (n << 1) + 1;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- Elias delta
+
+    /**
+     * Reads a value encoded in Elias delta code.
+     *
+     * @param input the bit input.
+     * @return a positive value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long readEliasDelta(final BitInput input) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        final long length = readEliasGamma(input);
+        if (length > MAX_ZEROS) {
+            throw new IOException("length(" + length + ") > " + MAX_ZEROS);
+        }
+        final int n = (int) length - 1;
+        return 1L << n | bits(input, n);
+    }
+
+    /**
+     * Writes given value in Elias delta code; the number of binary digits of the value in Elias gamma code followed by
+     * the value in binary without its leading one.
+     *
+     * @param output the bit output.
+     * @param value  the value to write; must be positive.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int writeEliasDelta(final BitOutput output, final long value) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        final int n = log2(requirePositive(value));
+        final int written = writeEliasGamma(output, n + 1);
+        bits(output, n, value);
+        return written + n;
+    }
+
+    // ------------------------------------------------------------------------------------------------------ Exp-Golomb
+
+    private static int requireValidOrder(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k(" + k + ") < 0");
+        }
+        if (k > MAX_ZEROS - 1) {
+            throw new IllegalArgumentException("k(" + k + ") > " + (MAX_ZEROS - 1));
+        }
+        return k;
+    }
+
+    /**
+     * Reads a value encoded in Exp-Golomb code of specified order.
+     *
+     * @param input the bit input.
+     * @param k     the order; between {@code 0} and {@code 62}, both inclusive.
+     * @return a non-negative value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long readExpGolomb(final BitInput input, final int k) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        requireValidOrder(k);
+        final int n = zeros(input, MAX_ZEROS - 1 - k) + k;
+        return (1L << n | bits(input, n)) - (1L << k);
+    }
+
+    /**
+     * Writes given value in Exp-Golomb code of specified order; the value plus {@code 2^k} in Elias gamma code without
+     * its first {@code k} zeros.
+     *
+     * @param output the bit output.
+     * @param k      the order; between {@code 0} and {@code 62}, both inclusive.
+     * @param value  the value to write; between {@code 0} and {@code Long.MAX_VALUE - 2^k}, both inclusive.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int writeExpGolomb(final BitOutput output, final int k, final long value) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        requireValidOrder(k);
+        requireNonNegative(value);
+        if (value > Long.MAX_VALUE - (1L << k)) {
+            throw new IllegalArgumentException("value(" + value + ") > " + (Long.MAX_VALUE - (1L << k)));
+        }
+        final long shifted = value + (1L << k);
+        final int n = log2(shifted);
+        zeros(output, n - k);
+        bits(output, n, shifted);
+        return (n << 1) - k + 1;
+    }
+
+    /**
+     * Reads a signed value encoded in Exp-Golomb code of specified order.
+     *
+     * @param input the bit input.
+     * @param k     the order; between {@code 0} and {@code 62}, both inclusive.
+     * @return a signed value.
+     * @throws IOException if an I/O error occurs.
+     * @see #writeSignedExpGolomb(BitOutput, int, long)
+     */
+    public static long readSignedExpGolomb(final BitInput input, final int k) throws IOException {
+        final long mapped = readExpGolomb(input, k);
+        return (mapped & 1L) == 1L ? (mapped >>> 1) + 1L : -(mapped >>> 1);
+    }
+
+    /**
+     * Writes given signed value in Exp-Golomb code of specified order. A positive value {@code v} is mapped to {@code
+     * 2v - 1} and a non-positive value {@code v} is mapped to {@code -2v}.
+     *
+     * @param output the bit output.
+     * @param k      the order; between {@code 0} and {@code 62}, both inclusive.
+     * @param value  the value to write; its mapped value should not exceed {@code Long.MAX_VALUE - 2^k}.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int writeSignedExpGolomb(final BitOutput output, final int k, final long value) throws IOException {
+        if (value > (Long.MAX_VALUE >> 1) + 1L || value < -(Long.MAX_VALUE >> 1)) {
+            throw new IllegalArgumentException("value(" + value + ") out of range");
+        }
+        return writeExpGolomb(output, k, value > 0L ? (value << 1) - 1L : -value << 1);
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- Golomb
+
+    /**
+     * Reads a value encoded in Golomb code with specified parameter.
+     *
+     * @param input the bit input.
+     * @param m     the parameter; between {@code 1} and {@value #MAX_GOLOMB_PARAMETER}, both inclusive.
+     * @return a non-negative value.
+     * @throws IOException if an I/O error occurs or the value overflows a {@code long}.
+     */
+    public static long readGolomb(final BitInput input, final long m) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        requireValidGolombParameter(m);
+        final long quotient = zeros(input);
+        if (m == 1L) {
+            return quotient;
+        }
+        final int b = log2(m - 1L) + 1; // ceil(log2(m))
+        final long cutoff = (1L << b) - m;
+        long remainder = bits(input, b - 1);
+        if (remainder >= cutoff) {
+            remainder = (remainder << 1 | bits(input, 1)) - cutoff;
+        }
+        if (quotient > (Long.MAX_VALUE - remainder) / m) {
+            throw new IOException("value overflows; quotient: " + quotient + ", m: " + m + ", remainder: " + remainder);
+        }
+        return quotient * m + remainder;
+    }
+
+    /**
+     * Writes given value in Golomb code with specified parameter; the quotient of the value divided by {@code m} in
+     * unary, as zeros followed by a one, and the remainder in truncated binary.
+     *
+     * @param output the bit output.
+     * @param m      the parameter; between {@code 1} and {@value #MAX_GOLOMB_PARAMETER}, both inclusive.
+     * @param value  the value to write; must be non-negative.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long writeGolomb(final BitOutput output, final long m, final long value) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        requireValidGolombParameter(m);
+        requireNonNegative(value);
+        final long quotient = value / m;
+        final long remainder = value % m;
+        zeros(output, quotient);
+        if (m == 1L) {
+            return quotient + 1L;
+        }
+        final int b = log2(m - 1L) + 1; // ceil(log2(m))
+        final long cutoff = (1L << b) - m;
+        if (remainder < cutoff) {
+            bits(output, b - 1, remainder);
+            return quotient + b;
+        }
+        bits(output, b, remainder + cutoff);
+        return quotient + 1L + b;
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ Rice
+
+    /**
+     * Reads a value encoded in Rice code with specified parameter.
+     *
+     * @param input the bit input.
+     * @param k     the parameter; between {@code 0} and {@code 62}, both inclusive.
+     * @return a non-negative value.
+     * @throws IOException if an I/O error occurs or the value overflows a {@code long}.
+     */
+    public static long readRice(final BitInput input, final int k) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        requireValidOrder(k);
+        final long quotient = zeros(input);
+        if (quotient > Long.MAX_VALUE >>> k) {
+            throw new IOException("value overflows; quotient: " + quotient + ", k: " + k);
+        }
+        return quotient << k | bits(input, k);
+    }
+
+    /**
+     * Writes given value in Rice code with specified parameter, which is Golomb code with {@code m = 2^k}; the value
+     * shifted right by {@code k} in unary, as zeros followed by a one, and the lower {@code k} bits in binary.
+     *
+     * @param output the bit output.
+     * @param k      the parameter; between {@code 0} and {@code 62}, both inclusive.
+     * @param value  the value to write; must be non-negative.
+     * @return the number of bits written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long writeRice(final BitOutput output, final int k, final long value) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        requireValidOrder(k);
+        requireNonNegative(value);
+        final long quotient = value >>> k;
+        zeros(output, quotient);
+        bits(output, k, value);
+        return quotient + 1L + k;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private UniversalCodes() {
+        super();
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link AbstractBitInput#mark()}, {@link AbstractBitInput#reset()} and {@link
+ * AbstractBitInput#position()}.
+ */
+class AbstractBitInputMarkTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static Object[] byteInputs() {
+        return ByteInputsTest.byteInputs().toArray();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link AbstractBitInput#reset()} throws an {@link IllegalStateException} when not marked.
+     *
+     * @param function a function for creating a byte input from an array.
+     */
+    @MethodSource({"byteInputs"})
+    @ParameterizedTest
+    void assertResetThrowsIllegalStateExceptionWhenNotMarked(final Function<byte[], ByteInput> function) {
+        final DefaultBitInput<ByteInput> input = new DefaultBitInput<ByteInput>(function.apply(new byte[1]));
+        assertThrows(IllegalStateException.class, input::reset);
+    }
+
+    /**
+     * Asserts values read after a reset match those read after the corresponding mark.
+     *
+     * @param function a function for creating a byte input from an array.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"byteInputs"})
+    @ParameterizedTest
+    void assertResetRewindsToMark(final Function<byte[], ByteInput> function) throws IOException {
+        final byte[] array = new byte[65536];
+        current().nextBytes(array);
+        final DefaultBitInput<ByteInput> input = new DefaultBitInput<ByteInput>(function.apply(array));
+        long index = 0L;
+        long marked = -1L;
+        while (index + 1024L < array.length * 8L) {
+            assertEquals(index, input.position());
+            switch (current().nextInt(16)) {
+                case 0:
+                    input.mark();
+                    marked = index;
+                    break;
+                case 1:
+                    if (marked >= 0L) {
+                        input.reset();
+                        index = marked;
+                    }
+                    break;
+                case 2:
+                    final int skipped = current().nextInt(0, 128);
+                    input.skip(skipped);
+                    index += skipped;
+                    break;
+                case 3:
+                    final int peekSize = current().nextInt(1, Integer.SIZE);
+                    assertEquals(reference(array, index, peekSize), input.peekInt(true, peekSize));
+                    break;
+                case 4:
+                    final byte[] bytes = new byte[current().nextInt(0, 16)];
+                    input.readBytes(bytes, 0, bytes.length);
+                    for (final byte b : bytes) {
+                        assertEquals(reference(array, index, Byte.SIZE), b & 0xFF);
+                        index += Byte.SIZE;
+                    }
+                    break;
+                default:
+                    final int size = current().nextInt(1, Long.SIZE);
+                    assertEquals(reference(array, index, size), input.readLong(true, size));
+                    index += size;
+                    break;
+            }
+        }
+        assertEquals(index, input.position());
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.function.Function;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link AbstractBitInput#peekInt(boolean, int)}.
+ */
+class AbstractBitInputPeekTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static Object[] byteInputs() {
+        return ByteInputsTest.byteInputs().toArray();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts peeked values match the reference and following reads, skips, byte array reads and alignments see the
+     * peeked bits as not consumed.
+     *
+     * @param function a function for creating a byte input from an array.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"byteInputs"})
+    @ParameterizedTest
+    void assertPeekIntDoesNotConsumeBits(final Function<byte[], ByteInput> function) throws IOException {
+        final byte[] array = new byte[65536];
+        current().nextBytes(array);
+        final DefaultBitInput<ByteInput> input = new DefaultBitInput<ByteInput>(function.apply(array));
+        long index = 0L;
+        while (index + 1024L < array.length * 8L) {
+            final int size = current().nextInt(1, Integer.SIZE + 1);
+            final boolean unsigned = size < Integer.SIZE && current().nextBoolean();
+            final long expected = reference(array, index, size);
+            final int peeked = input.peekInt(unsigned, size);
+            assertEquals(unsigned ? expected : (int) (expected << (Long.SIZE - size) >> (Long.SIZE - size)), peeked);
+            assertEquals(index, input.count * Byte.SIZE - input.available);
+            switch (current().nextInt(4)) {
+                case 0:
+                    assertEquals(peeked, input.readInt(unsigned, size));
+                    index += size;
+                    break;
+                case 1:
+                    final int consumed = current().nextInt(0, size + 1);
+                    input.skip(consumed);
+                    index += consumed;
+                    break;
+                case 2:
+                    final byte[] bytes = new byte[current().nextInt(0, 16)];
+                    input.readBytes(bytes, 0, bytes.length);
+                    for (final byte b : bytes) {
+                        assertEquals(reference(array, index, Byte.SIZE), b & 0xFF);
+                        index += Byte.SIZE;
+                    }
+                    break;
+                default:
+                    final int bytesToAlign = current().nextInt(1, 4);
+                    final long discarded = input.align(bytesToAlign);
+                    index += discarded;
+                    assertEquals(0L, index % (bytesToAlign * Byte.SIZE));
+                    break;
+            }
+            assertEquals(index, input.count * Byte.SIZE - input.available);
+        }
+    }
+
+    /**
+     * Asserts a peek failed at the end of input leaves the bit buffer intact for following reads.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertPeekIntAtEndOfInputKeepsBuffer() throws IOException {
+        final byte[] array = new byte[3];
+        current().nextBytes(array);
+        final StreamByteInput<ByteArrayInputStream> source
+                = new StreamByteInput<ByteArrayInputStream>(new ByteArrayInputStream(array));
+        final DefaultBitInput<StreamByteInput<ByteArrayInputStream>> input
+                = new DefaultBitInput<StreamByteInput<ByteArrayInputStream>>(source);
+        final int head = current().nextInt(1, Byte.SIZE);
+        assertEquals(reference(array, 0L, head), input.readInt(true, head));
+        assertThrows(EOFException.class, () -> input.peekInt(true, Integer.SIZE - 1));
+        final int tail = array.length * Byte.SIZE - head;
+        assertEquals(reference(array, head, tail), input.readInt(true, tail));
+        assertThrows(EOFException.class, input::readBoolean);
+    }
+}
@@ -0,0 +1,170 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.function.Function;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link AbstractBitInput#skip(long)}.
+ */
+class AbstractBitInputSkipTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static Object[] byteInputs() {
+        return ByteInputsTest.byteInputs().toArray();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link AbstractBitInput#skip(long)} throws an {@link IllegalArgumentException} when {@code bits} is
+     * negative.
+     */
+    @Test
+    void assertSkipThrowsIllegalArgumentExceptionWhenBitsIsNegative() {
+        final BitInput input = new DefaultBitInput<ByteInput>(ByteInputs.nullByteInput());
+        assertThrows(IllegalArgumentException.class, () -> input.skip(current().nextLong() | Long.MIN_VALUE));
+    }
+
+    /**
+     * Asserts values read after skipping match the reference and {@code count} reflects skipped octets.
+     *
+     * @param function a function for creating a byte input from an array.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"byteInputs"})
+    @ParameterizedTest
+    void assertSkipSkipsBits(final Function<byte[], ByteInput> function) throws IOException {
+        final byte[] array = new byte[65536];
+        current().nextBytes(array);
+        final DefaultBitInput<ByteInput> input = new DefaultBitInput<ByteInput>(function.apply(array));
+        long index = 0L;
+        while (true) {
+            final long bits = current().nextLong(0L, 4096L);
+            final int size = current().nextInt(1, Long.SIZE + 1);
+            if (index + bits + size > array.length * 8L) {
+                break;
+            }
+            input.skip(bits);
+            index += bits;
+            assertEquals(reference(array, index, size), input.unsigned64(size));
+            index += size;
+            assertEquals((index + 7) / 8, input.count);
+        }
+        assertEquals((8 - index % 8) % 8, input.align(1));
+    }
+
+    /**
+     * Asserts {@link AbstractBitInput#skip(long)} throws an {@link EOFException} when skipping past the end of a
+     * {@link FileInputStream} whose {@link FileInputStream#skip(long)} skips past the end of the file and reports
+     * success.
+     *
+     * @param directory a temporary directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertSkipPastEndOfStreamThrowsEOFException(@TempDir final File directory) throws IOException {
+        final File file = File.createTempFile("tmp", null, directory);
+        final byte[] array = new byte[current().nextInt(1, 1024)];
+        current().nextBytes(array);
+        final FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(array);
+        } finally {
+            output.close();
+        }
+        final FileInputStream stream1 = new FileInputStream(file);
+        try {
+            final BitInput input
+                    = new DefaultBitInput<ByteInput>(new StreamByteInput<FileInputStream>(stream1));
+            input.skip(array.length * (long) Byte.SIZE - Byte.SIZE);
+            assertEquals(array[array.length - 1] & 0xFF, input.readInt(true, Byte.SIZE));
+            assertThrows(EOFException.class, () -> input.skip(Byte.SIZE));
+        } finally {
+            stream1.close();
+        }
+        final FileInputStream stream2 = new FileInputStream(file);
+        try {
+            final BitInput input
+                    = new DefaultBitInput<ByteInput>(new StreamByteInput<FileInputStream>(stream2));
+            final long bits = (array.length + current().nextInt(1, 1024)) * (long) Byte.SIZE;
+            assertThrows(EOFException.class, () -> input.skip(bits));
+        } finally {
+            stream2.close();
+        }
+    }
+
+    /**
+     * Asserts {@link AbstractBitInput#skip(long)} throws an {@link EOFException} when skipping past the end of a {@link
+     * DataInputStream} over a {@link FileInputStream} whose {@link DataInputStream#skipBytes(int)} skips past the end
+     * of the file and reports success.
+     *
+     * @param directory a temporary directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertSkipPastEndOfDataInputThrowsEOFException(@TempDir final File directory) throws IOException {
+        final File file = File.createTempFile("tmp", null, directory);
+        final byte[] array = new byte[current().nextInt(1, 1024)];
+        current().nextBytes(array);
+        final FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(array);
+        } finally {
+            output.close();
+        }
+        final DataInputStream stream1 = new DataInputStream(new FileInputStream(file));
+        try {
+            final BitInput input
+                    = new DefaultBitInput<ByteInput>(new DataByteInput<DataInputStream>(stream1));
+            input.skip(array.length * (long) Byte.SIZE - Byte.SIZE);
+            assertEquals(array[array.length - 1] & 0xFF, input.readInt(true, Byte.SIZE));
+            assertThrows(EOFException.class, () -> input.skip(Byte.SIZE));
+        } finally {
+            stream1.close();
+        }
+        final DataInputStream stream2 = new DataInputStream(new FileInputStream(file));
+        try {
+            final BitInput input
+                    = new DefaultBitInput<ByteInput>(new DataByteInput<DataInputStream>(stream2));
+            final long bits = (array.length + current().nextInt(1, 1024)) * (long) Byte.SIZE;
+            assertThrows(EOFException.class, () -> input.skip(bits));
+        } finally {
+            stream2.close();
+        }
+    }
+}
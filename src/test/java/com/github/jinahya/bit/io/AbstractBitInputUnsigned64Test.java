@@ -0,0 +1,100 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.io.IOException;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A class for testing the reading engine of {@link AbstractBitInput} against a bit-by-bit reference.
+ *
+ * @see AbstractBitInput#unsigned64(int)
+ */
+class AbstractBitInputUnsigned64Test {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the unsigned value of specified number of bits starting at given bit index.
+     *
+     * @param array the array from which bits are read.
+     * @param index the index of the first bit.
+     * @param size  the number of bits.
+     * @return an unsigned value.
+     */
+    static long reference(final byte[] array, final long index, final int size) {
+        long value = 0L;
+        for (long i = index; i < index + size; i++) {
+            value <<= 1;
+            value |= (array[(int) (i >> 3)] >> (7 - (i & 7))) & 1;
+        }
+        return value;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link AbstractBitInput#unsigned64(int)} reads same values as the reference and keeps {@code count}
+     * and {@code available} consistent with the number of bits consumed.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(16)
+    void assertUnsigned64MatchesReference() throws IOException {
+        final byte[] array = new byte[8192];
+        current().nextBytes(array);
+        final DefaultBitInput<ArrayByteInput> input = new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(array));
+        long index = 0L;
+        while (true) {
+            final int size = current().nextInt(1, Long.SIZE + 1);
+            if (index + size > array.length * 8L) {
+                break;
+            }
+            assertEquals(reference(array, index, size), input.unsigned64(size));
+            index += size;
+            assertEquals((index + 7) / 8, input.count);
+            assertEquals(input.count * 8 - index, input.available);
+        }
+    }
+
+    /**
+     * Asserts signed values are sign-extended from the most significant bit read.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(16)
+    void assertSignedValuesAreSignExtended() throws IOException {
+        final byte[] array = new byte[64];
+        current().nextBytes(array);
+        final int skip = current().nextInt(0, 8);
+        final int size = current().nextInt(1, Long.SIZE + 1);
+        final DefaultBitInput<ArrayByteInput> input = new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(array));
+        if (skip > 0) {
+            input.readInt(true, skip);
+        }
+        final long expected = reference(array, skip, size) << (Long.SIZE - size) >> (Long.SIZE - size);
+        assertEquals(expected, input.readLong(false, size));
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A class for testing the writing engine of {@link AbstractBitOutput} against a bit-by-bit reference.
+ *
+ * @see AbstractBitOutput#unsigned64(int, long)
+ */
+class AbstractBitOutputUnsigned64Test {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link AbstractBitOutput#unsigned64(int, long)} writes the lower bits of each value in order and
+     * {@link AbstractBitOutput#align(int)} pads the last octet with zero bits.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(16)
+    void assertUnsigned64MatchesReference() throws IOException {
+        final byte[] array = new byte[8192];
+        final DefaultBitOutput<ArrayByteOutput> output
+                = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(array));
+        final List<long[]> written = new ArrayList<long[]>();
+        long bits = 0L;
+        while (true) {
+            final int size = current().nextInt(1, Long.SIZE + 1);
+            if (bits + size > (array.length - 8) * 8L) {
+                break;
+            }
+            final long value = current().nextLong();
+            output.unsigned64(size, value);
+            written.add(new long[] {size, value});
+            bits += size;
+            assertEquals(bits, output.position());
+        }
+        final long padded = output.align(1);
+        assertEquals((8 - bits % 8) % 8, padded);
+        assertEquals((bits + padded) / 8, output.getDelegate().getIndex());
+        assertEquals(bits + padded, output.position());
+        long index = 0L;
+        for (final long[] pair : written) {
+            final int size = (int) pair[0];
+            assertEquals(pair[1] & (-1L >>> (Long.SIZE - size)), reference(array, index, size));
+            index += size;
+        }
+        if (padded > 0L) {
+            assertEquals(0L, reference(array, index, (int) padded));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+
+/**
+ * A benchmark comparing {@link ArrayBitInput} and {@link ArrayBitOutput} against {@link DefaultBitInput} and {@link
+ * DefaultBitOutput} over arrays. Run via {@link #main(String...)} on the test classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayBitIoBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ArrayBitIoBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final int LENGTH = 65536;
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Setup
+    public void setup() {
+        array = new byte[LENGTH];
+        current().nextBytes(array);
+        sizes = new int[LENGTH / Long.SIZE];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = current().nextInt(1, Long.SIZE);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public void readDefaultBitInput(final Blackhole blackhole) throws IOException {
+        final BitInput input = new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(array));
+        for (final int size : sizes) {
+            blackhole.consume(input.readLong(true, size));
+        }
+    }
+
+    @Benchmark
+    public void readArrayBitInput(final Blackhole blackhole) throws IOException {
+        final BitInput input = new ArrayBitInput(array);
+        for (final int size : sizes) {
+            blackhole.consume(input.readLong(true, size));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public byte[] writeDefaultBitOutput() throws IOException {
+        final BitOutput output = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(array));
+        for (final int size : sizes) {
+            output.writeLong(true, size, size);
+        }
+        output.align(1);
+        return array;
+    }
+
+    @Benchmark
+    public byte[] writeArrayBitOutput() throws IOException {
+        final BitOutput output = new ArrayBitOutput(array);
+        for (final int size : sizes) {
+            output.writeLong(true, size, size);
+        }
+        output.align(1);
+        return array;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private byte[] array;
+
+    private int[] sizes;
+}
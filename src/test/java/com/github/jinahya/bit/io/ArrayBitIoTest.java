@@ -0,0 +1,143 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link ArrayBitInput} and {@link ArrayBitOutput}.
+ */
+class ArrayBitIoTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link ArrayBitOutput} writes same bytes as {@link DefaultBitOutput} does, even over a dirty target.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    void assertArrayBitOutputWritesSameBytesAsDefaultBitOutput() throws IOException {
+        final byte[] expected = new byte[8192];
+        final byte[] actual = new byte[expected.length];
+        current().nextBytes(actual);
+        final DefaultBitOutput<ArrayByteOutput> defaultOutput
+                = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(expected));
+        final ArrayBitOutput arrayOutput = new ArrayBitOutput(actual);
+        while (arrayOutput.position() + Long.SIZE * 2 < expected.length * 8L) {
+            if (current().nextInt(16) == 0) {
+                final int bytes = current().nextInt(1, 4);
+                assertEquals(defaultOutput.align(bytes), arrayOutput.align(bytes));
+                continue;
+            }
+            final int size = current().nextInt(1, Long.SIZE);
+            final long value = current().nextLong();
+            defaultOutput.writeLong(true, size, value);
+            arrayOutput.writeLong(true, size, value);
+            assertEquals(defaultOutput.position(), arrayOutput.position());
+        }
+        final int padded = (int) defaultOutput.align(1);
+        assertEquals(padded, arrayOutput.align(1));
+        final int length = (int) (arrayOutput.position() / Byte.SIZE);
+        for (int i = 0; i < length; i++) {
+            assertEquals(expected[i], actual[i]);
+        }
+    }
+
+    /**
+     * Asserts {@link ArrayBitInput} reads, peeks, skips and rewinds same bits as the reference does.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    void assertArrayBitInputMatchesReference() throws IOException {
+        final byte[] array = new byte[8192];
+        current().nextBytes(array);
+        final ArrayBitInput input = new ArrayBitInput(array);
+        long marked = -1L;
+        while (input.position() + Long.SIZE * 2 < array.length * 8L) {
+            final long index = input.position();
+            switch (current().nextInt(8)) {
+                case 0:
+                    input.mark();
+                    marked = index;
+                    break;
+                case 1:
+                    if (marked >= 0L) {
+                        input.reset();
+                        assertEquals(marked, input.position());
+                    }
+                    break;
+                case 2:
+                    final int skipped = current().nextInt(0, Long.SIZE);
+                    input.skip(skipped);
+                    assertEquals(index + skipped, input.position());
+                    break;
+                case 3:
+                    final int peekSize = current().nextInt(1, Integer.SIZE);
+                    assertEquals(reference(array, index, peekSize), input.peekInt(true, peekSize));
+                    assertEquals(index, input.position());
+                    break;
+                default:
+                    final int size = current().nextInt(1, Long.SIZE);
+                    assertEquals(reference(array, index, size), input.readLong(true, size));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Asserts values written by {@link ArrayBitOutput} are read back by {@link ArrayBitInput}, including the last
+     * bits of the array.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertRoundTripToTheEnd() throws IOException {
+        final byte[] array = new byte[1024];
+        final ArrayBitOutput output = new ArrayBitOutput(array);
+        final List<long[]> written = new ArrayList<long[]>();
+        while (output.position() < array.length * 8L) {
+            final int size = (int) Math.min(current().nextInt(1, Long.SIZE), array.length * 8L - output.position());
+            final long value = current().nextLong() >>> (Long.SIZE - size);
+            output.writeLong(true, size, value);
+            written.add(new long[] {size, value});
+        }
+        assertThrows(IOException.class, () -> output.writeBoolean(true));
+        final ArrayBitInput input = new ArrayBitInput(array);
+        for (final long[] pair : written) {
+            assertEquals(pair[1], input.readLong(true, (int) pair[0]));
+        }
+        assertThrows(EOFException.class, input::readBoolean);
+        assertThrows(EOFException.class, () -> input.skip(1L));
+    }
+}
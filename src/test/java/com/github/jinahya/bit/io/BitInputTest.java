@@ -169,6 +169,44 @@ public abstract class BitInputTest<T extends BitInput> {
         final char value = bitInput.readChar(size);
     }
 
+    // ------------------------------------------------------------------------------------------------------------ peek
+
+    /**
+     * Tests {@link BitInput#peekInt(boolean, int)}.
+     */
+    @RepeatedTest(128)
+    public void testPeekInt() {
+        acceptRandomSizeInt((unsigned, size) -> {
+            final int value;
+            try {
+                value = bitInput.peekInt(unsigned, size);
+            } catch (final IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+            BitIoTests.assertValidValueInt(unsigned, size, value);
+        });
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ skip
+
+    /**
+     * Asserts {@link BitInput#skip(long)} throws {@link IllegalArgumentException} when {@code bits} is negative.
+     */
+    @Test
+    public void assertSkipThrowsIllegalArgumentExceptionWhenBitsIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> bitInput.skip(current().nextLong() | Long.MIN_VALUE));
+    }
+
+    /**
+     * Tests {@link BitInput#skip(long)}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    public void testSkip() throws IOException {
+        bitInput.skip(current().nextLong(0L, 1024L));
+    }
+
     // ----------------------------------------------------------------------------------------------------------- align
 
     /**
@@ -57,6 +57,26 @@ class BitIoArgumentsProvider implements ArgumentsProvider {
         return Arguments.of(output, inputSupplier);
     }
 
+    static Arguments bitArray() {
+        final byte[] array = new byte[BYTE_LENGTH];
+        final BitOutput output = new ArrayBitOutput(array);
+        final Supplier<BitInput> inputSupplier = () -> new ArrayBitInput(array);
+        return Arguments.of(output, inputSupplier);
+    }
+
+    static Arguments bitBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BYTE_LENGTH);
+        final BitOutput output = new BufferBitOutput(buffer);
+        final Supplier<BitInput> inputSupplier = () -> new BufferBitInput(buffer);
+        return Arguments.of(output, inputSupplier);
+    }
+
+    static Arguments byteArray() {
+        final ByteArrayBitOutput output = new ByteArrayBitOutput(0);
+        final Supplier<BitInput> inputSupplier = () -> new ArrayBitInput(output.toByteArray());
+        return Arguments.of(output, inputSupplier);
+    }
+
     static Arguments buffer() {
         final ByteBuffer buffer = ByteBuffer.allocate(BYTE_LENGTH);
         final ByteOutput delegate = new BufferByteOutput<>(buffer);
@@ -94,6 +114,9 @@ class BitIoArgumentsProvider implements ArgumentsProvider {
     static Object[] source() {
         return new Object[] {
                 array(),
+                bitArray(),
+                bitBuffer(),
+                byteArray(),
                 buffer(),
                 data(),
                 stream()
@@ -105,6 +128,9 @@ class BitIoArgumentsProvider implements ArgumentsProvider {
     public Stream<? extends Arguments> provideArguments(final ExtensionContext context) {
         return Stream.<Arguments>builder()
                 .add(array())
+                .add(bitArray())
+                .add(bitBuffer())
+                .add(byteArray())
                 .add(buffer())
                 .add(data())
                 .add(stream())
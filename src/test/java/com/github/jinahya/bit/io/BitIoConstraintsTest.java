@@ -30,6 +30,7 @@ import static com.github.jinahya.bit.io.BitIoConstraints.maxSize;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidExponent;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSize;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned16;
+import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned64;
 import static com.github.jinahya.bit.io.BitIoConstraints.requireValidSizeUnsigned8;
 import static java.util.concurrent.ThreadLocalRandom.current;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -99,6 +100,21 @@ class BitIoConstraintsTest {
         assertEquals(size, requireValidSizeUnsigned16(size));
     }
 
+    @Test
+    void testRequireValidSizeUnsigned64() {
+        // negative
+        assertThrows(IllegalArgumentException.class,
+                     () -> requireValidSizeUnsigned64(current().nextInt() | Integer.MIN_VALUE));
+        // zero
+        assertThrows(IllegalArgumentException.class, () -> requireValidSizeUnsigned64(0));
+        // size > Long.SIZE
+        assertThrows(IllegalArgumentException.class,
+                     () -> requireValidSizeUnsigned64(current().nextInt(Long.SIZE + 1, Integer.MAX_VALUE)));
+        // valid
+        final int size = current().nextInt(1, Long.SIZE + 1);
+        assertEquals(size, requireValidSizeUnsigned64(size));
+    }
+
     // -------------------------------------------------------------------------------------------- requireValidExponent
     @RepeatedTest(8)
     void testRequireValidExponentAssertThrowsIllegalArgumentExceptionWhenExponentIsInvalid() {
@@ -0,0 +1,183 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * A class for testing {@link BitIoPool} and the reuse lifecycle of bit inputs and bit outputs.
+ */
+class BitIoPoolTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts the pool returns the same instance, reused for each source, in a thread and another one in another
+     * thread.
+     *
+     * @throws Exception if any error occurs.
+     */
+    @Test
+    void assertPoolReusesInstancesPerThread() throws Exception {
+        for (int i = 0; i < 16; i++) {
+            final byte[] array = new byte[current().nextInt(8, 128)];
+            current().nextBytes(array);
+            final ArrayBitInput input = BitIoPool.arrayBitInput(array);
+            assertSame(input, BitIoPool.arrayBitInput(array));
+            assertEquals(0L, input.position());
+            final int size = current().nextInt(1, Long.SIZE);
+            assertEquals(reference(array, 0L, size), input.readLong(true, size));
+            final BufferBitInput bufferInput = BitIoPool.bufferBitInput(ByteBuffer.wrap(array));
+            assertEquals(reference(array, 0L, size), bufferInput.readLong(true, size));
+            final ByteArrayBitOutput output = BitIoPool.byteArrayBitOutput();
+            assertEquals(0L, output.position());
+            output.writeLong(true, size, reference(array, 0L, size));
+            final byte[] target = new byte[output.size()];
+            BitIoPool.arrayBitOutput(target).writeLong(true, size, reference(array, 0L, size));
+            assertArrayEquals(output.toByteArray(), target);
+            final ByteBuffer buffer = ByteBuffer.allocate(target.length);
+            BitIoPool.bufferBitOutput(buffer).writeLong(true, size, reference(array, 0L, size));
+            assertArrayEquals(target, buffer.array());
+        }
+        final ArrayBitInput input = BitIoPool.arrayBitInput(new byte[0]);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertNotSame(input, executor.submit(() -> BitIoPool.arrayBitInput(new byte[0])).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Asserts {@link BitIoPool#remove()} discards the current thread's instances and an oversized byte array bit output
+     * is not retained.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertPoolReleasesInstances() throws IOException {
+        final ArrayBitInput arrayInput = BitIoPool.arrayBitInput(new byte[0]);
+        final BufferBitOutput bufferOutput = BitIoPool.bufferBitOutput(ByteBuffer.allocate(0));
+        final ByteArrayBitOutput output = BitIoPool.byteArrayBitOutput();
+        BitIoPool.remove();
+        assertNotSame(arrayInput, BitIoPool.arrayBitInput(new byte[0]));
+        assertNotSame(bufferOutput, BitIoPool.bufferBitOutput(ByteBuffer.allocate(0)));
+        final ByteArrayBitOutput small = BitIoPool.byteArrayBitOutput();
+        assertNotSame(output, small);
+        for (int i = 0; i < BitIoPool.MAX_RETAINED_CAPACITY / 2; i++) {
+            small.writeInt(true, Byte.SIZE, i & 0xFF);
+        }
+        assertSame(small, BitIoPool.byteArrayBitOutput());
+        for (int i = 0; i <= BitIoPool.MAX_RETAINED_CAPACITY; i++) {
+            small.writeInt(true, Byte.SIZE, i & 0xFF);
+        }
+        final ByteArrayBitOutput large = BitIoPool.byteArrayBitOutput();
+        assertNotSame(small, large);
+        assertEquals(0L, large.position());
+        assertSame(large, BitIoPool.byteArrayBitOutput());
+    }
+
+    /**
+     * Asserts {@link AbstractBitInput#clear()} and {@link AbstractBitOutput#clear()} let engines be reused for new
+     * delegates even after read-ahead, marks and pending bits.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertClearMakesEnginesReusable() throws IOException {
+        final DefaultBitInput<ArrayByteInput> input = new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(null));
+        final DefaultBitOutput<ArrayByteOutput> output
+                = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(null));
+        for (int i = 0; i < 16; i++) {
+            final byte[] array = new byte[16];
+            current().nextBytes(array);
+            input.clear();
+            input.getDelegate().source(array).index(0);
+            input.mark();
+            assertEquals(reference(array, 0L, 5), input.readInt(true, 5));
+            assertEquals(reference(array, 5L, 31), input.peekInt(true, 31));
+            assertEquals(5L, input.position());
+            final byte[] target = new byte[16];
+            output.clear();
+            output.getDelegate().target(target).index(0);
+            output.writeInt(true, 3, 7);
+            assertEquals(3L, output.position());
+            output.align(1);
+            assertEquals((byte) 0xE0, target[0]);
+        }
+    }
+
+    /**
+     * Asserts reusing array and buffer bit inputs and outputs for new arrays and buffers doesn't allocate any object.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertReuseForNewArraysDoesNotAllocate() throws IOException {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled());
+        final byte[][] arrays = new byte[64][];
+        final ByteBuffer[] buffers = new ByteBuffer[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = new byte[current().nextInt(8, 128)];
+            buffers[i] = ByteBuffer.wrap(arrays[i]);
+        }
+        final ArrayBitInput arrayInput = new ArrayBitInput(arrays[0]);
+        final ArrayBitOutput arrayOutput = new ArrayBitOutput(arrays[0]);
+        final BufferBitInput bufferInput = new BufferBitInput(buffers[0]);
+        final BufferBitOutput bufferOutput = new BufferBitOutput(buffers[0]);
+        final int iterations = 65536;
+        long allocated = 0L;
+        for (int round = 0; round < 2; round++) { // the first round warms up
+            final long id = Thread.currentThread().getId();
+            final long before = sun.getThreadAllocatedBytes(id);
+            long sum = 0L;
+            for (int i = 0; i < iterations; i++) {
+                final int j = i % arrays.length;
+                arrayOutput.reuse(arrays[j]).writeLong(false, Long.SIZE, i);
+                sum += arrayInput.reuse(arrays[j]).readLong(false, Long.SIZE);
+                bufferOutput.reuse(buffers[j]).writeInt(false, Integer.SIZE, i);
+                sum += bufferInput.reuse(buffers[j]).readInt(false, Integer.SIZE);
+            }
+            allocated = sun.getThreadAllocatedBytes(id) - before;
+            assertEquals((long) iterations * (iterations - 1), sum);
+        }
+        assertTrue(allocated < iterations, "allocated: " + allocated);
+    }
+}
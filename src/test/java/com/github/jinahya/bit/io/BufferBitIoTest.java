@@ -0,0 +1,149 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link BufferBitInput} and {@link BufferBitOutput}.
+ */
+class BufferBitIoTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static Stream<IntFunction<ByteBuffer>> buffers() {
+        return Stream.of(
+                ByteBuffer::allocate,
+                c -> ByteBuffer.allocate(c).order(ByteOrder.LITTLE_ENDIAN),
+                ByteBuffer::allocateDirect,
+                c -> ByteBuffer.allocateDirect(c).order(ByteOrder.LITTLE_ENDIAN)
+        );
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link BufferBitOutput} writes same bytes as {@link DefaultBitOutput} does, from the buffer's position
+     * and over dirty contents.
+     *
+     * @param function a function for allocating a buffer of given capacity.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"buffers"})
+    @ParameterizedTest
+    void assertBufferBitOutputWritesSameBytesAsDefaultBitOutput(final IntFunction<ByteBuffer> function)
+            throws IOException {
+        final byte[] expected = new byte[8192];
+        final ByteBuffer buffer = function.apply(expected.length + 16);
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) current().nextInt());
+        }
+        final int offset = current().nextInt(0, 16);
+        buffer.position(offset).limit(offset + expected.length);
+        final DefaultBitOutput<ArrayByteOutput> defaultOutput
+                = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(expected));
+        final BufferBitOutput bufferOutput = new BufferBitOutput(buffer);
+        while (bufferOutput.position() + Long.SIZE * 2 < expected.length * 8L) {
+            if (current().nextInt(16) == 0) {
+                final int bytes = current().nextInt(1, 4);
+                assertEquals(defaultOutput.align(bytes), bufferOutput.align(bytes));
+                continue;
+            }
+            final int size = current().nextInt(1, Long.SIZE);
+            final long value = current().nextLong();
+            defaultOutput.writeLong(true, size, value);
+            bufferOutput.writeLong(true, size, value);
+            assertEquals(defaultOutput.position(), bufferOutput.position());
+        }
+        assertEquals(defaultOutput.align(1), bufferOutput.align(1));
+        assertEquals(offset, buffer.position());
+        final int length = (int) (bufferOutput.position() / Byte.SIZE);
+        for (int i = 0; i < length; i++) {
+            assertEquals(expected[i], buffer.get(offset + i));
+        }
+    }
+
+    /**
+     * Asserts {@link BufferBitInput} reads, peeks, skips and rewinds same bits as the reference does, from the
+     * buffer's position to its limit.
+     *
+     * @param function a function for allocating a buffer of given capacity.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"buffers"})
+    @ParameterizedTest
+    void assertBufferBitInputMatchesReference(final IntFunction<ByteBuffer> function) throws IOException {
+        final byte[] array = new byte[8192];
+        current().nextBytes(array);
+        final int offset = current().nextInt(0, 16);
+        final ByteBuffer buffer = function.apply(offset + array.length);
+        buffer.position(offset);
+        buffer.put(array).position(offset);
+        final BufferBitInput input = new BufferBitInput(buffer);
+        long marked = -1L;
+        while (input.position() + Long.SIZE < array.length * 8L) {
+            final long index = input.position();
+            switch (current().nextInt(8)) {
+                case 0:
+                    input.mark();
+                    marked = index;
+                    break;
+                case 1:
+                    if (marked >= 0L) {
+                        input.reset();
+                        assertEquals(marked, input.position());
+                    }
+                    break;
+                case 2:
+                    final int skipped = current().nextInt(0, Long.SIZE);
+                    input.skip(skipped);
+                    assertEquals(index + skipped, input.position());
+                    break;
+                case 3:
+                    final int peekSize = current().nextInt(1, Integer.SIZE);
+                    assertEquals(reference(array, index, peekSize), input.peekInt(true, peekSize));
+                    break;
+                default:
+                    final int size = current().nextInt(1, Long.SIZE);
+                    assertEquals(reference(array, index, size), input.readLong(true, size));
+                    break;
+            }
+        }
+        while (input.position() < array.length * 8L) {
+            final int size = (int) Math.min(Integer.SIZE, array.length * 8L - input.position());
+            assertEquals(reference(array, input.position(), size), input.readLong(true, size));
+        }
+        assertThrows(EOFException.class, input::readBoolean);
+        assertEquals(offset, buffer.position());
+    }
+}
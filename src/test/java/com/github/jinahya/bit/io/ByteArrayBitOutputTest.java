@@ -0,0 +1,95 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link ByteArrayBitOutput}.
+ */
+class ByteArrayBitOutputTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link ByteArrayBitOutput} writes same bytes as {@link DefaultBitOutput} does, while growing from an
+     * empty array, and keeps doing so after {@link ByteArrayBitOutput#reset()}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    void assertWritesSameBytesAsDefaultBitOutputAcrossResets() throws IOException {
+        final ByteArrayBitOutput output = new ByteArrayBitOutput(0);
+        for (int round = 0; round < 4; round++) {
+            output.reset();
+            assertEquals(0L, output.position());
+            final byte[] expected = new byte[current().nextInt(1, 8192)];
+            final DefaultBitOutput<ArrayByteOutput> defaultOutput
+                    = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(expected));
+            while (defaultOutput.position() + Long.SIZE * 2 < expected.length * 8L) {
+                final int size = current().nextInt(1, Long.SIZE);
+                final long value = current().nextLong();
+                defaultOutput.writeLong(true, size, value);
+                output.writeLong(true, size, value);
+                assertEquals(defaultOutput.position(), output.position());
+            }
+            final long bits = output.position();
+            defaultOutput.align(1);
+            final int length = (int) (defaultOutput.position() / Byte.SIZE);
+            assertEquals(length, output.size());
+            final byte[] actual = output.toByteArray();
+            assertEquals(length, actual.length);
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], actual[i]);
+            }
+            final ByteBuffer view = output.asByteBuffer();
+            assertEquals(length, view.remaining());
+            assertEquals(ByteBuffer.wrap(actual), view);
+            assertEquals(bits, output.position());
+        }
+    }
+
+    /**
+     * Asserts {@link ByteArrayBitOutput#asByteBuffer()} returns a read-only view of exact length.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertAsByteBufferReturnsReadOnlyViewOfExactLength() throws IOException {
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        output.writeInt(true, 9, 0x1FF);
+        final ByteBuffer view = output.asByteBuffer();
+        assertEquals(0, view.position());
+        assertEquals(2, view.limit());
+        assertThrows(ReadOnlyBufferException.class, () -> view.put(0, (byte) 0));
+        assertArrayEquals(new byte[] {(byte) 0xFF, (byte) 0x80}, output.toByteArray());
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A class for testing {@link ByteInputs}.
+ */
+class ByteInputsTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static Stream<Function<byte[], ByteInput>> byteInputs() {
+        return Stream.of(
+                ArrayByteInput::new,
+                a -> ArrayByteInput.of(current().nextInt(1, 128), new ByteArrayInputStream(a)),
+                a -> new BufferByteInput<>(ByteBuffer.wrap(a)),
+                a -> new StreamByteInput<>(new ByteArrayInputStream(a)),
+                a -> new DataByteInput<>(new DataInputStream(new ByteArrayInputStream(a))),
+                a -> new FileChannelByteInput(FileChannelByteInputTest.channel(a), 0L, current().nextInt(1, 128)),
+                a -> {
+                    final ByteInput delegate = new ArrayByteInput(a);
+                    return (ByteInput) delegate::read;
+                }
+        );
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link ByteInputs#read(ByteInput, byte[], int, int)} reads same bytes as {@link ByteInput#read()} does.
+     *
+     * @param function a function for creating a byte input from an array.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"byteInputs"})
+    @ParameterizedTest
+    void assertReadReadsSameBytesAsReadingEachByte(final Function<byte[], ByteInput> function) throws IOException {
+        final byte[] expected = new byte[current().nextInt(1024, 4096)];
+        current().nextBytes(expected);
+        final ByteInput input = function.apply(expected);
+        final byte[] actual = new byte[expected.length];
+        for (int offset = 0; offset < actual.length; ) {
+            final int length = Math.min(current().nextInt(0, 256), actual.length - offset);
+            if (current().nextBoolean()) {
+                ByteInputs.read(input, actual, offset, length);
+                offset += length;
+            } else {
+                actual[offset++] = (byte) input.read();
+            }
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Asserts {@link ByteInputs#skip(ByteInput, long)} skips same bytes as {@link ByteInput#read()} does.
+     *
+     * @param function a function for creating a byte input from an array.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"byteInputs"})
+    @ParameterizedTest
+    void assertSkipSkipsSameBytesAsReadingEachByte(final Function<byte[], ByteInput> function) throws IOException {
+        final byte[] expected = new byte[current().nextInt(1024, 4096)];
+        current().nextBytes(expected);
+        final ByteInput input = function.apply(expected);
+        for (int index = 0; index < expected.length; ) {
+            final int count = Math.min(current().nextInt(0, 256), expected.length - index);
+            ByteInputs.skip(input, count);
+            index += count;
+            if (index < expected.length) {
+                assertEquals(expected[index++] & 0xFF, input.read());
+            }
+        }
+    }
+
+    /**
+     * Asserts {@link AbstractByteInput#reset()} rewinds to the position {@link AbstractByteInput#mark()} marked when
+     * {@link AbstractByteInput#markSupported()} returns {@code true}.
+     *
+     * @param function a function for creating a byte input from an array.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"byteInputs"})
+    @ParameterizedTest
+    void assertResetRewindsToMarkWhenSupported(final Function<byte[], ByteInput> function) throws IOException {
+        final byte[] expected = new byte[current().nextInt(1024, 4096)];
+        current().nextBytes(expected);
+        final ByteInput input = function.apply(expected);
+        if (!(input instanceof AbstractByteInput) || !((AbstractByteInput<?>) input).markSupported()) {
+            return;
+        }
+        final AbstractByteInput<?> abstractInput = (AbstractByteInput<?>) input;
+        int marked = 0;
+        abstractInput.mark();
+        for (int index = 0; index < expected.length; ) {
+            if (current().nextInt(8) == 0) {
+                abstractInput.reset();
+                index = marked;
+            }
+            if (current().nextInt(8) == 0) {
+                abstractInput.mark();
+                marked = index;
+            }
+            assertEquals(expected[index++] & 0xFF, input.read());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * A class for testing {@link ByteOutputs}.
+ */
+class ByteOutputsTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A pair of a byte output and a supplier of bytes written to it so far.
+     */
+    static final class Target {
+
+        Target(final ByteOutput output, final Supplier<byte[]> written) {
+            super();
+            this.output = output;
+            this.written = written;
+        }
+
+        final ByteOutput output;
+
+        final Supplier<byte[]> written;
+    }
+
+    static Stream<Function<Integer, Target>> targets() {
+        return Stream.of(
+                n -> {
+                    final ArrayByteOutput output = new ArrayByteOutput(new byte[n]);
+                    return new Target(output, () -> Arrays.copyOf(output.getTarget(), output.getIndex()));
+                },
+                n -> {
+                    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                    final ArrayByteOutput output = ArrayByteOutput.of(current().nextInt(1, 128), stream);
+                    return new Target(output, () -> {
+                        try {
+                            ArrayByteOutput.flush(output, stream);
+                        } catch (final IOException ioe) {
+                            throw new RuntimeException(ioe);
+                        }
+                        return stream.toByteArray();
+                    });
+                },
+                n -> {
+                    final ByteBuffer buffer = ByteBuffer.allocate(n);
+                    return new Target(new BufferByteOutput<>(buffer),
+                                      () -> Arrays.copyOf(buffer.array(), buffer.position()));
+                },
+                n -> {
+                    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                    return new Target(new StreamByteOutput<>(stream), stream::toByteArray);
+                },
+                n -> {
+                    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                    return new Target(new DataByteOutput<>(new DataOutputStream(stream)), stream::toByteArray);
+                },
+                n -> {
+                    final ArrayByteOutput delegate = new ArrayByteOutput(new byte[n]);
+                    return new Target(delegate::write, () -> Arrays.copyOf(delegate.getTarget(), delegate.getIndex()));
+                }
+        );
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link ByteOutputs#write(ByteOutput, byte[], int, int)} writes same bytes as {@link
+     * ByteOutput#write(int)} does.
+     *
+     * @param function a function for creating a target of given capacity.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"targets"})
+    @ParameterizedTest
+    void assertWriteWritesSameBytesAsWritingEachByte(final Function<Integer, Target> function) throws IOException {
+        final byte[] expected = new byte[current().nextInt(1024, 4096)];
+        current().nextBytes(expected);
+        final Target target = function.apply(expected.length);
+        for (int offset = 0; offset < expected.length; ) {
+            final int length = Math.min(current().nextInt(0, 256), expected.length - offset);
+            if (current().nextBoolean()) {
+                ByteOutputs.write(target.output, expected, offset, length);
+                offset += length;
+            } else {
+                target.output.write(expected[offset++] & 0xFF);
+            }
+        }
+        assertArrayEquals(expected, target.written.get());
+    }
+}
@@ -25,7 +25,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.ThreadLocalRandom.current;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -74,6 +79,33 @@ public abstract class DefaultBitInputTest<T extends DefaultBitInput<U>, U extend
         assertEquals(bitInput, bitInput.delegate(byteInputMock));
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts that a subclass overriding {@link DefaultBitInput#read()} receives every single byte read in bulk or
+     * skipped.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void assertOverriddenReadReceivesEveryByte() throws IOException {
+        final byte[] array = new byte[Long.SIZE / Byte.SIZE * 2];
+        current().nextBytes(array);
+        final AtomicInteger reads = new AtomicInteger();
+        final BitInput input = new DefaultBitInput<ByteInput>(new ArrayByteInput(array)) {
+            @Override
+            protected int read() throws IOException {
+                reads.incrementAndGet();
+                return super.read();
+            }
+        };
+        input.skip(Long.SIZE);
+        assertEquals(Long.SIZE / Byte.SIZE, reads.get());
+        assertEquals(ByteBuffer.wrap(array, Long.SIZE / Byte.SIZE, Long.SIZE / Byte.SIZE).getLong(),
+                     input.readLong(false, Long.SIZE));
+        assertEquals(Long.SIZE / Byte.SIZE * 2, reads.get());
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     protected final Class<U> byteInputClass;
 
@@ -25,7 +25,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -83,6 +89,31 @@ public abstract class DefaultBitOutputTest<T extends DefaultBitOutput<U>, U exte
 
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Asserts that a subclass overriding {@link DefaultBitOutput#write(int)} receives every single byte written in
+     * bulk.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void assertOverriddenWriteReceivesEveryByte() throws IOException {
+        final byte[] array = new byte[Long.SIZE / Byte.SIZE];
+        final AtomicInteger writes = new AtomicInteger();
+        final BitOutput output = new DefaultBitOutput<ByteOutput>(new ArrayByteOutput(array)) {
+            @Override
+            protected void write(final int value) throws IOException {
+                writes.incrementAndGet();
+                super.write(value);
+            }
+        };
+        final long value = current().nextLong();
+        output.writeLong(false, Long.SIZE, value);
+        assertEquals(Long.SIZE / Byte.SIZE, writes.get());
+        assertArrayEquals(ByteBuffer.allocate(Long.SIZE / Byte.SIZE).putLong(value).array(), array);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * The byte output class.
      */
@@ -0,0 +1,225 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link DeltaEncoder} and {@link DeltaDecoder}.
+ */
+class DeltaCodingTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns timestamps at a fixed interval with occasional jitters and gaps.
+     *
+     * @param length the number of timestamps.
+     * @return an array of timestamps.
+     */
+    private static long[] timestamps(final int length) {
+        final long[] values = new long[length];
+        long value = current().nextLong(1L << 40);
+        for (int i = 0; i < length; i++) {
+            values[i] = value;
+            value += 1000L;
+            switch (current().nextInt(16)) {
+                case 0:
+                    value += current().nextInt(-100, 100);
+                    break;
+                case 1:
+                    value += current().nextLong(1L << 40);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns random values including extremes.
+     *
+     * @param length the number of values.
+     * @return an array of values.
+     */
+    private static long[] randoms(final int length) {
+        final long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            switch (current().nextInt(8)) {
+                case 0:
+                    values[i] = current().nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE;
+                    break;
+                default:
+                    values[i] = current().nextLong() >> current().nextInt(Long.SIZE);
+                    break;
+            }
+        }
+        return values;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts each bucket takes its prefix and its bits, and values at bounds of buckets are read back.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertBucketSizes() throws IOException {
+        final long[] values = {
+                0L, 1L, -1L, 63L, -64L, 64L, -65L, 255L, -256L, 256L, 2047L, -2048L, 2048L, Integer.MAX_VALUE,
+                Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Long.MIN_VALUE, Long.MAX_VALUE
+        };
+        final long[] sizes = {1, 9, 9, 9, 9, 12, 12, 12, 12, 16, 16, 16, 37, 37, 37, 69, 69, 69};
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        for (int i = 0; i < values.length; i++) {
+            final long position = output.position();
+            DeltaEncoder.writeBucket(output, values[i]);
+            assertEquals(sizes[i], output.position() - position, "value: " + values[i]);
+        }
+        output.align(1);
+        final BitInput input = new ArrayBitInput(output.toByteArray());
+        for (final long value : values) {
+            assertEquals(value, DeltaDecoder.readBucket(input));
+        }
+    }
+
+    /**
+     * Asserts values at a fixed interval take a single bit for each value from the third one.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertFixedIntervalTakesSingleBits() throws IOException {
+        final long[] values = new long[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_600_000_000_000L + i * 60_000L;
+        }
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        DeltaEncoder.writeDeltasOfDeltas(output, values);
+        assertTrue(output.position() < 16 + 48 + 69 + values.length, "position: " + output.position());
+        output.align(1);
+        assertArrayEquals(values, DeltaDecoder.readDeltasOfDeltas(new ArrayBitInput(output.toByteArray())));
+    }
+
+    /**
+     * Asserts illegal arguments are rejected.
+     */
+    @Test
+    void assertIllegalArgumentsRejected() {
+        assertThrows(NullPointerException.class, () -> new DeltaEncoder(null, false));
+        assertThrows(NullPointerException.class, () -> new DeltaDecoder(null, true));
+        assertThrows(NullPointerException.class, () -> DeltaEncoder.writeDeltas(new ByteArrayBitOutput(), null));
+    }
+
+    /**
+     * Asserts bounded reads reject lengths greater than the maximum before allocating any array.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertBoundedReadsRejectTooManyValues() throws IOException {
+        final long[] values = timestamps(current().nextInt(1, 1024));
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        DeltaEncoder.writeDeltas(output, values);
+        DeltaEncoder.writeDeltasOfDeltas(output, values);
+        ExtendedBitOutput.writeUnsignedVarInt(output, Integer.MAX_VALUE);
+        output.align(1);
+        final BitInput input = new ArrayBitInput(output.toByteArray());
+        assertArrayEquals(values, DeltaDecoder.readDeltas(input, values.length));
+        assertThrows(IOException.class, () -> DeltaDecoder.readDeltasOfDeltas(input, values.length - 1));
+        final BitInput other = new ArrayBitInput(output.toByteArray());
+        assertThrows(IllegalArgumentException.class, () -> DeltaDecoder.readDeltas(other, -1));
+        assertArrayEquals(values, DeltaDecoder.readDeltas(other, Integer.MAX_VALUE));
+        assertArrayEquals(values, DeltaDecoder.readDeltasOfDeltas(other, values.length));
+        assertThrows(IOException.class, () -> DeltaDecoder.readDeltas(other, 1024));
+    }
+
+    /**
+     * Asserts values appended one by one are read back one by one.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertStreamedValuesReadBack() throws IOException {
+        final long[] values = timestamps(current().nextInt(1, 1024));
+        for (final boolean deltaOfDelta : new boolean[] {false, true}) {
+            final ByteArrayBitOutput output = new ByteArrayBitOutput();
+            final DeltaEncoder encoder = new DeltaEncoder(output, deltaOfDelta);
+            for (final long value : values) {
+                encoder.encode(value);
+            }
+            assertEquals(values.length, encoder.getCount());
+            output.align(1);
+            final DeltaDecoder decoder = new DeltaDecoder(new ArrayBitInput(output.toByteArray()), deltaOfDelta);
+            for (final long value : values) {
+                assertEquals(value, decoder.decode());
+            }
+            assertEquals(values.length, decoder.getCount());
+        }
+    }
+
+    /**
+     * Asserts arrays of timestamps and random values are read back.
+     *
+     * @param bitOutput        a bit output to test with.
+     * @param bitInputSupplier a supplier for a bit input.
+     * @throws IOException if an I/O error occurs.
+     */
+    @ArgumentsSource(BitIoArgumentsProvider.class)
+    @ParameterizedTest
+    void assertValuesReadBack(final BitOutput bitOutput, final Supplier<BitInput> bitInputSupplier)
+            throws IOException {
+        final int count = 32;
+        final long[][] values = new long[count][];
+        for (int i = 0; i < count; i++) {
+            values[i] = current().nextBoolean() ? timestamps(current().nextInt(0, 512))
+                                                : randoms(current().nextInt(0, 512));
+            if (i % 2 == 0) {
+                DeltaEncoder.writeDeltas(bitOutput, values[i]);
+            } else {
+                DeltaEncoder.writeDeltasOfDeltas(bitOutput, values[i]);
+            }
+        }
+        bitOutput.align(1);
+        final BitInput bitInput = bitInputSupplier.get();
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                assertArrayEquals(values[i], DeltaDecoder.readDeltas(bitInput));
+            } else {
+                assertArrayEquals(values[i], DeltaDecoder.readDeltasOfDeltas(bitInput));
+            }
+        }
+        bitInput.align(1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.jinahya.bit.io;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
@@ -9,7 +10,10 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import static com.github.jinahya.bit.io.ExtendedBitIoTests.applyRandomAscii;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * A class for testing {@link ExtendedBitInput} and {@link ExtendedBitOutput}.
@@ -57,4 +61,133 @@ public class ExtendedBitIoTest {
         }
         bitInput.align(1);
     }
+
+    /**
+     * Tests {@link ExtendedBitOutput#writeBytes(BitOutput, int, int, byte[])} and {@link
+     * ExtendedBitInput#readBytes(BitInput, int, int)} with full 8-bit bytes which are transferred at once whether the
+     * stream is octet-aligned or not.
+     *
+     * @param bitOutput        a bit output to test with.
+     * @param bitInputSupplier a supplier for a bit input.
+     * @throws IOException if an I/O error occurs.
+     */
+    @ArgumentsSource(BitIoArgumentsProvider.class)
+    @ParameterizedTest
+    public void testBytes(final BitOutput bitOutput, final Supplier<BitInput> bitInputSupplier) throws IOException {
+        final int lengthSize = 10;
+        final int count = 64;
+        final List<Integer> prefixes = new ArrayList<>(count);
+        final List<byte[]> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int prefix = current().nextInt(0, 8);
+            if (prefix > 0) {
+                bitOutput.writeInt(true, prefix, 0);
+            }
+            final byte[] value = new byte[current().nextInt(0, 1 << lengthSize)];
+            current().nextBytes(value);
+            ExtendedBitOutput.writeBytes(bitOutput, lengthSize, Byte.SIZE, value);
+            prefixes.add(prefix);
+            values.add(value);
+        }
+        bitOutput.align(1);
+        final BitInput bitInput = bitInputSupplier.get();
+        for (int i = 0; i < count; i++) {
+            final int prefix = prefixes.get(i);
+            if (prefix > 0) {
+                bitInput.readInt(true, prefix);
+            }
+            assertArrayEquals(values.get(i), ExtendedBitInput.readBytes(bitInput, lengthSize, Byte.SIZE));
+        }
+        bitInput.align(1);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static int smallInt() {
+        final int value = current().nextInt() >> current().nextInt(Integer.SIZE);
+        return current().nextBoolean() ? value : value >>> current().nextInt(Integer.SIZE);
+    }
+
+    private static long smallLong() {
+        final long value = current().nextLong() >> current().nextInt(Long.SIZE);
+        return current().nextBoolean() ? value : value >>> current().nextInt(Long.SIZE);
+    }
+
+    /**
+     * Asserts {@link ExtendedBitOutput#writeUnsignedVarInt(BitOutput, int)} produces the unsigned LEB128 encoding.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void testUnsignedVarIntIsLeb128() throws IOException {
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        assertEquals(16, ExtendedBitOutput.writeUnsignedVarInt(output, 300));
+        assertEquals(24, ExtendedBitOutput.writeUnsignedVarInt(output, 624485));
+        assertEquals(8, ExtendedBitOutput.writeSignedVarInt(output, -1));
+        assertEquals(40, ExtendedBitOutput.writeUnsignedVarInt(output, -1));
+        assertArrayEquals(new byte[] {(byte) 0xAC, 0x02, (byte) 0xE5, (byte) 0x8E, 0x26, 0x01,
+                                      (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+                          output.toByteArray());
+        final BitInput input = new ArrayBitInput(output.toByteArray());
+        assertEquals(300, ExtendedBitInput.readUnsignedVarInt(input));
+        assertEquals(624485, ExtendedBitInput.readUnsignedVarInt(input));
+        assertEquals(-1, ExtendedBitInput.readSignedVarInt(input));
+        assertEquals(-1, ExtendedBitInput.readUnsignedVarInt(input));
+        assertThrows(IOException.class, () -> ExtendedBitInput.readUnsignedVarInt(
+                new ArrayBitInput(new byte[] {-1, -1, -1, -1, -1, 0})));
+    }
+
+    /**
+     * Tests variable-length integers, of scalars and of arrays, with random group sizes.
+     *
+     * @param bitOutput        a bit output to test with.
+     * @param bitInputSupplier a supplier for a bit input.
+     * @throws IOException if an I/O error occurs.
+     */
+    @ArgumentsSource(BitIoArgumentsProvider.class)
+    @ParameterizedTest
+    public void testVarInts(final BitOutput bitOutput, final Supplier<BitInput> bitInputSupplier) throws IOException {
+        final int lengthSize = 6;
+        final int count = 64;
+        final int[] groupSizes = new int[count];
+        final int[] ints = new int[count];
+        final long[] longs = new long[count];
+        final int[][] intArrays = new int[count][];
+        final long[][] longArrays = new long[count][];
+        for (int i = 0; i < count; i++) {
+            groupSizes[i] = current().nextInt(BitIoConstraints.MIN_GROUP_SIZE, BitIoConstraints.MAX_GROUP_SIZE + 1);
+            ints[i] = smallInt();
+            longs[i] = smallLong();
+            intArrays[i] = new int[current().nextInt(1 << lengthSize)];
+            for (int j = 0; j < intArrays[i].length; j++) {
+                intArrays[i][j] = smallInt();
+            }
+            longArrays[i] = new long[current().nextInt(1 << lengthSize)];
+            for (int j = 0; j < longArrays[i].length; j++) {
+                longArrays[i][j] = smallLong();
+            }
+            ExtendedBitOutput.writeUnsignedVarInt(bitOutput, groupSizes[i], ints[i]);
+            ExtendedBitOutput.writeSignedVarInt(bitOutput, groupSizes[i], ints[i]);
+            ExtendedBitOutput.writeUnsignedVarLong(bitOutput, groupSizes[i], longs[i]);
+            ExtendedBitOutput.writeSignedVarLong(bitOutput, groupSizes[i], longs[i]);
+            ExtendedBitOutput.writeUnsignedVarInts(bitOutput, lengthSize, groupSizes[i], intArrays[i]);
+            ExtendedBitOutput.writeSignedVarInts(bitOutput, lengthSize, groupSizes[i], intArrays[i]);
+            ExtendedBitOutput.writeUnsignedVarLongs(bitOutput, lengthSize, groupSizes[i], longArrays[i]);
+            ExtendedBitOutput.writeSignedVarLongs(bitOutput, lengthSize, groupSizes[i], longArrays[i]);
+        }
+        bitOutput.align(1);
+        final BitInput bitInput = bitInputSupplier.get();
+        for (int i = 0; i < count; i++) {
+            assertEquals(ints[i], ExtendedBitInput.readUnsignedVarInt(bitInput, groupSizes[i]));
+            assertEquals(ints[i], ExtendedBitInput.readSignedVarInt(bitInput, groupSizes[i]));
+            assertEquals(longs[i], ExtendedBitInput.readUnsignedVarLong(bitInput, groupSizes[i]));
+            assertEquals(longs[i], ExtendedBitInput.readSignedVarLong(bitInput, groupSizes[i]));
+            assertArrayEquals(intArrays[i], ExtendedBitInput.readUnsignedVarInts(bitInput, lengthSize, groupSizes[i]));
+            assertArrayEquals(intArrays[i], ExtendedBitInput.readSignedVarInts(bitInput, lengthSize, groupSizes[i]));
+            assertArrayEquals(longArrays[i],
+                              ExtendedBitInput.readUnsignedVarLongs(bitInput, lengthSize, groupSizes[i]));
+            assertArrayEquals(longArrays[i],
+                              ExtendedBitInput.readSignedVarLongs(bitInput, lengthSize, groupSizes[i]));
+        }
+        bitInput.align(1);
+    }
 }
@@ -0,0 +1,163 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link FileChannelByteInput}.
+ */
+class FileChannelByteInputTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a channel, for reading, of a temporary file whose content is given array.
+     *
+     * @param array the content of the file.
+     * @return a channel of a temporary file.
+     */
+    static FileChannel channel(final byte[] array) {
+        try {
+            final File file = File.createTempFile("tmp", null);
+            file.deleteOnExit();
+            final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            raf.write(array);
+            return raf.getChannel();
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts multiple threads read bits of independent regions of a single channel concurrently.
+     *
+     * @throws Exception if any error occurs.
+     */
+    @Test
+    void assertConcurrentReadersReadIndependentRegions() throws Exception {
+        final byte[] array = new byte[1048576];
+        current().nextBytes(array);
+        final FileChannel channel = channel(array);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < 64; i++) {
+                final long offset = current().nextInt(array.length - 4096);
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        final BitInput input = new DefaultBitInput<FileChannelByteInput>(
+                                new FileChannelByteInput(channel, offset, current().nextInt(1, 1024)));
+                        long index = offset * Byte.SIZE;
+                        while (index < (offset + 4000L) * Byte.SIZE) {
+                            final int size = current().nextInt(1, Long.SIZE);
+                            assertEquals(reference(array, index, size), input.readLong(true, size));
+                            index += size;
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            channel.close();
+        }
+    }
+
+    /**
+     * Asserts {@link FileChannelByteInput#setPosition(long)} moves to any byte and reading past the end throws an
+     * {@link EOFException}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertSetPositionMovesToAnyByte() throws IOException {
+        final byte[] array = new byte[4096];
+        current().nextBytes(array);
+        final FileChannel channel = channel(array);
+        try {
+            final FileChannelByteInput input = new FileChannelByteInput(channel, 0L, current().nextInt(1, 256));
+            for (int i = 0; i < 1024; i++) {
+                final int position = current().nextInt(array.length);
+                input.setPosition(position);
+                assertEquals(position, input.getPosition());
+                assertEquals(array[position] & 0xFF, input.read());
+                assertEquals(position + 1L, input.getPosition());
+            }
+            input.setPosition(array.length);
+            assertThrows(EOFException.class, input::read);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Asserts {@link FileChannelByteInput#skip(long)} rejects negative counts and throws an {@link EOFException} when
+     * skipping past the end of the file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertSkipPastEndThrowsEOFException() throws IOException {
+        final byte[] array = new byte[current().nextInt(1, 4096)];
+        current().nextBytes(array);
+        final FileChannel channel = channel(array);
+        try {
+            final FileChannelByteInput input = new FileChannelByteInput(channel, 0L, current().nextInt(1, 256));
+            assertThrows(IllegalArgumentException.class, () -> input.skip(-1L));
+            final int position = current().nextInt(array.length);
+            input.skip(position);
+            assertEquals(array[position] & 0xFF, input.read());
+            input.skip(array.length - position - 1L);
+            assertEquals(array.length, input.getPosition());
+            assertThrows(EOFException.class, () -> input.skip(1L));
+            input.setPosition(position);
+            assertThrows(EOFException.class, () -> input.skip(array.length - position + current().nextInt(1, 1024)));
+            assertEquals(array.length, input.getPosition());
+        } finally {
+            channel.close();
+        }
+    }
+}
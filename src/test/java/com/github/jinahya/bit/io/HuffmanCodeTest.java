@@ -0,0 +1,198 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.io.IOException;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link HuffmanCode}.
+ */
+class HuffmanCodeTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns random frequencies, heavily skewed, with some zeros.
+     *
+     * @param size the number of symbols.
+     * @return an array of frequencies.
+     */
+    private static long[] frequencies(final int size) {
+        final long[] frequencies = new long[size];
+        for (int i = 0; i < size; i++) {
+            frequencies[i] = current().nextInt(8) == 0 ? 0L : current().nextLong(1L, 1L << current().nextInt(1, 32));
+        }
+        frequencies[current().nextInt(size)] = 1L;
+        return frequencies;
+    }
+
+    /**
+     * Returns the total cost of an unlimited Huffman code for given frequencies.
+     *
+     * @param frequencies the frequencies.
+     * @return the sum of frequencies multiplied by code lengths; {@code -1} if the longest code would be longer than
+     * {@link HuffmanCode#MAX_CODE_LENGTH}.
+     */
+    private static long huffmanCost(final long[] frequencies) {
+        final PriorityQueue<long[]> queue = new PriorityQueue<>((o1, o2) -> Long.compare(o1[0], o2[0]));
+        for (final long frequency : frequencies) {
+            if (frequency > 0L) {
+                queue.add(new long[] {frequency, 0L}); // weight, depth
+            }
+        }
+        long cost = 0L;
+        while (queue.size() > 1) {
+            final long[] first = queue.poll();
+            final long[] second = queue.poll();
+            final long[] merged = {first[0] + second[0], Math.max(first[1], second[1]) + 1L};
+            cost += merged[0];
+            queue.add(merged);
+        }
+        return queue.poll()[1] > HuffmanCode.MAX_CODE_LENGTH ? -1L : cost;
+    }
+
+    private static long cost(final HuffmanCode code, final long[] frequencies) {
+        long cost = 0L;
+        for (int i = 0; i < frequencies.length; i++) {
+            cost += frequencies[i] * code.length(i);
+        }
+        return cost;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts canonical codes assigned from known lengths.
+     */
+    @Test
+    void assertCanonicalCodes() {
+        final HuffmanCode code = HuffmanCode.ofLengths(new int[] {3, 3, 3, 3, 3, 2, 4, 4});
+        final int[] expected = {0b010, 0b011, 0b100, 0b101, 0b110, 0b00, 0b1110, 0b1111};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], code.code(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> HuffmanCode.ofLengths(new int[] {1, 1, 1}));
+        assertThrows(IllegalArgumentException.class, () -> HuffmanCode.ofLengths(new int[] {0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> HuffmanCode.ofFrequencies(new long[] {1L, 1L, 1L}, 1));
+    }
+
+    /**
+     * Asserts code lengths built by package-merge are optimal when not limited, and respect the limit otherwise, and
+     * codes as long as {@value HuffmanCode#MAX_CODE_LENGTH} bits are decoded.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertPackageMerge() throws IOException {
+        for (int i = 0; i < 64; i++) {
+            final long[] frequencies = frequencies(current().nextInt(1, 300));
+            final HuffmanCode unlimited = HuffmanCode.ofFrequencies(frequencies, HuffmanCode.MAX_CODE_LENGTH);
+            long positives = 0L;
+            for (final long frequency : frequencies) {
+                positives += frequency > 0L ? 1 : 0;
+            }
+            final long huffmanCost = huffmanCost(frequencies);
+            if (positives > 1 && huffmanCost >= 0L) {
+                assertEquals(huffmanCost, cost(unlimited, frequencies));
+            }
+            final int limit = Math.max(64 - Long.numberOfLeadingZeros(positives - 1), 1) + current().nextInt(3);
+            final HuffmanCode limited = HuffmanCode.ofFrequencies(frequencies, limit);
+            long kraft = 0L;
+            for (int symbol = 0; symbol < frequencies.length; symbol++) {
+                final int length = limited.length(symbol);
+                assertEquals(frequencies[symbol] > 0L, length > 0);
+                assertTrue(length <= limit);
+                kraft += length == 0 ? 0L : 1L << (HuffmanCode.MAX_CODE_LENGTH - length);
+            }
+            if (positives > 1) {
+                assertEquals(1L << HuffmanCode.MAX_CODE_LENGTH, kraft);
+            }
+            assertTrue(cost(limited, frequencies) >= cost(unlimited, frequencies));
+            final ByteArrayBitOutput output = new ByteArrayBitOutput();
+            for (int symbol = 0; symbol < frequencies.length; symbol++) {
+                if (frequencies[symbol] > 0L) {
+                    unlimited.write(output, symbol);
+                }
+            }
+            output.align(1);
+            final BitInput input = new ArrayBitInput(output.toByteArray());
+            for (int symbol = 0; symbol < frequencies.length; symbol++) {
+                if (frequencies[symbol] > 0L) {
+                    assertEquals(symbol, unlimited.read(input));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts tables and symbols written are read back, including the last symbols decoded bit by bit near the end of
+     * the input.
+     *
+     * @param bitOutput        a bit output to test with.
+     * @param bitInputSupplier a supplier for a bit input.
+     * @throws IOException if an I/O error occurs.
+     */
+    @ArgumentsSource(BitIoArgumentsProvider.class)
+    @ParameterizedTest
+    void assertSymbolsReadBack(final BitOutput bitOutput, final Supplier<BitInput> bitInputSupplier)
+            throws IOException {
+        final long[] frequencies = frequencies(current().nextInt(1, 1024));
+        final HuffmanCode code = HuffmanCode.ofFrequencies(frequencies, current().nextInt(11, 24));
+        code.writeTable(bitOutput);
+        final int[] symbols = new int[4096];
+        for (int i = 0; i < symbols.length; i++) {
+            do {
+                symbols[i] = current().nextInt(frequencies.length);
+            } while (frequencies[symbols[i]] == 0L);
+            assertEquals(code.length(symbols[i]), code.write(bitOutput, symbols[i]));
+        }
+        bitOutput.writeInt(true, Integer.SIZE - 1, 0); // some byte inputs don't throw EOFException for peeks
+        bitOutput.align(1);
+        final BitInput bitInput = bitInputSupplier.get();
+        final HuffmanCode read = HuffmanCode.readTable(bitInput);
+        assertEquals(code.size(), read.size());
+        for (int symbol = 0; symbol < code.size(); symbol++) {
+            assertEquals(code.length(symbol), read.length(symbol));
+        }
+        for (final int symbol : symbols) {
+            assertEquals(symbol, read.read(bitInput));
+        }
+        final ByteArrayBitOutput tail = new ByteArrayBitOutput();
+        final int last = symbols[symbols.length - 1];
+        code.write(tail, last);
+        code.write(tail, last);
+        tail.align(1);
+        final BitInput tailInput = new ArrayBitInput(tail.toByteArray());
+        assertEquals(last, code.read(tailInput));
+        assertEquals(last, code.read(tailInput));
+    }
+}
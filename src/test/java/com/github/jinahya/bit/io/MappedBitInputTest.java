@@ -0,0 +1,112 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link MappedBitInput}.
+ */
+class MappedBitInputTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link MappedBitInput} reads, peeks, skips, seeks and rewinds same bits as the reference does across
+     * segment boundaries.
+     *
+     * @param directory a temporary directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    void assertMappedBitInputMatchesReference(@TempDir final File directory) throws IOException {
+        final byte[] array = new byte[current().nextInt(1024, 8192)];
+        current().nextBytes(array);
+        final File file = File.createTempFile("tmp", null, directory);
+        final FileOutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(array);
+        } finally {
+            stream.close();
+        }
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        final MappedBitInput input = new MappedBitInput(raf.getChannel(), current().nextInt(16, 1024));
+        try {
+            long marked = -1L;
+            while (input.position() + Long.SIZE < array.length * 8L) {
+                final long index = input.position();
+                switch (current().nextInt(10)) {
+                    case 0:
+                        input.mark();
+                        marked = index;
+                        break;
+                    case 1:
+                        if (marked >= 0L) {
+                            input.reset();
+                            assertEquals(marked, input.position());
+                        }
+                        break;
+                    case 2:
+                        final long skipped = current().nextLong(0L, 1024L);
+                        if (index + skipped <= array.length * 8L - Long.SIZE) {
+                            input.skip(skipped);
+                            assertEquals(index + skipped, input.position());
+                        }
+                        break;
+                    case 3:
+                        final long position = current().nextLong(
+                                Math.max(0L, index - 1024L), Math.min(index + 1024L, array.length * 8L - Long.SIZE));
+                        input.seek(position);
+                        assertEquals(position, input.position());
+                        break;
+                    case 4:
+                        final int peekSize = current().nextInt(1, Integer.SIZE);
+                        assertEquals(reference(array, index, peekSize), input.peekInt(true, peekSize));
+                        break;
+                    default:
+                        final int size = current().nextInt(1, Long.SIZE);
+                        assertEquals(reference(array, index, size), input.readLong(true, size));
+                        break;
+                }
+            }
+            while (input.position() < array.length * 8L) {
+                final int size = (int) Math.min(Integer.SIZE, array.length * 8L - input.position());
+                assertEquals(reference(array, input.position(), size), input.readLong(true, size));
+            }
+            assertThrows(EOFException.class, input::readBoolean);
+            assertThrows(IllegalArgumentException.class, () -> input.seek(array.length * 8L + 1L));
+        } finally {
+            input.close();
+        }
+    }
+}
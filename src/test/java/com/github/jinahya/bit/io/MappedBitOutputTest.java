@@ -0,0 +1,137 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A class for testing {@link MappedBitOutput}.
+ */
+class MappedBitOutputTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static byte[] read(final File file) throws IOException {
+        final byte[] bytes = new byte[(int) file.length()];
+        final FileInputStream stream = new FileInputStream(file);
+        try {
+            for (int offset = 0; offset < bytes.length; ) {
+                offset += stream.read(bytes, offset, bytes.length - offset);
+            }
+        } finally {
+            stream.close();
+        }
+        return bytes;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link MappedBitOutput} writes same bytes as {@link DefaultBitOutput} does across segment boundaries,
+     * and truncates a longer existing file to the bytes written, including the last partial one.
+     *
+     * @param directory a temporary directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    void assertMappedBitOutputWritesSameBytesAsDefaultBitOutput(@TempDir final File directory) throws IOException {
+        final byte[] expected = new byte[current().nextInt(1024, 8192)];
+        final DefaultBitOutput<ArrayByteOutput> defaultOutput
+                = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(expected));
+        final File file = File.createTempFile("tmp", null, directory);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(expected.length * 2L);
+        final MappedBitOutput mappedOutput = new MappedBitOutput(raf.getChannel(), current().nextInt(16, 1024));
+        try {
+            while (mappedOutput.position() + Long.SIZE * 2 < expected.length * 8L) {
+                if (current().nextInt(16) == 0) {
+                    final int bytes = current().nextInt(1, 4);
+                    assertEquals(defaultOutput.align(bytes), mappedOutput.align(bytes));
+                    continue;
+                }
+                final int size = current().nextInt(1, Long.SIZE);
+                final long value = current().nextLong();
+                defaultOutput.writeLong(true, size, value);
+                mappedOutput.writeLong(true, size, value);
+                assertEquals(defaultOutput.position(), mappedOutput.position());
+            }
+            if (current().nextBoolean()) {
+                assertEquals(defaultOutput.align(1), mappedOutput.align(1));
+            } else {
+                defaultOutput.align(1);
+            }
+        } finally {
+            mappedOutput.close();
+        }
+        final long length = defaultOutput.position() / Byte.SIZE;
+        assertEquals(length, file.length());
+        final byte[] actual = read(file);
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals(expected[i], actual[i]);
+        }
+        final RandomAccessFile source = new RandomAccessFile(file, "r");
+        final MappedBitInput input = new MappedBitInput(source.getChannel());
+        try {
+            final byte[] bytes = new byte[actual.length];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = input.readByte(false, Byte.SIZE);
+            }
+            assertArrayEquals(actual, bytes);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Asserts {@link MappedBitOutput#close()} truncates the file only once and closing a closed output has no effect.
+     *
+     * @param directory a temporary directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertCloseIsIdempotent(@TempDir final File directory) throws IOException {
+        final File file = File.createTempFile("tmp", null, directory);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        final MappedBitOutput output = new MappedBitOutput(raf.getChannel(), current().nextInt(16, 1024));
+        final int bytes = current().nextInt(1, 4096);
+        for (int i = 0; i < bytes; i++) {
+            output.writeInt(true, Byte.SIZE, i & 0xFF);
+        }
+        output.close();
+        assertEquals(bytes, file.length());
+        output.close();
+        assertEquals(bytes, file.length());
+        final byte[] actual = read(file);
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals((byte) i, actual[i]);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link NonBlockingBitDecoder}.
+ */
+class NonBlockingBitDecoderTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A decoder of messages of a 10-bit count followed by that many 17-bit values.
+     */
+    private static final NonBlockingBitDecoder.Decoder<List<Integer>> DECODER = input -> {
+        final int count = input.readInt(true, 10);
+        final List<Integer> message = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            message.add(input.readInt(true, 17));
+        }
+        return message;
+    };
+
+    private static byte[] encode(final List<List<Integer>> messages) throws IOException {
+        final byte[] array = new byte[1048576];
+        final ArrayBitOutput output = new ArrayBitOutput(array);
+        for (final List<Integer> message : messages) {
+            output.writeInt(true, 10, message.size());
+            for (final int value : message) {
+                output.writeInt(true, 17, value);
+            }
+            output.align(1);
+        }
+        final byte[] bytes = new byte[(int) (output.position() >> 3)];
+        System.arraycopy(array, 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts messages arriving in arbitrary chunks are all decoded, in order, without blocking.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    void assertMessagesSplitAcrossChunksAreDecoded() throws IOException {
+        final List<List<Integer>> expected = new ArrayList<>();
+        for (int i = 0; i < 128; i++) {
+            final List<Integer> message = new ArrayList<>();
+            for (int j = current().nextInt(0, 64); j > 0; j--) {
+                message.add(current().nextInt(1 << 17));
+            }
+            expected.add(message);
+        }
+        final byte[] bytes = encode(expected);
+        final Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        final NonBlockingBitDecoder<List<Integer>> decoder
+                = new NonBlockingBitDecoder<>(pipe.source(), DECODER, current().nextInt(1, 64));
+        final List<List<Integer>> actual = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; ) {
+            final int length = Math.min(current().nextInt(1, 512), bytes.length - offset);
+            pipe.sink().write(ByteBuffer.wrap(bytes, offset, length));
+            offset += length;
+            while (decoder.read(actual::add) > 0) {
+                // drain
+            }
+        }
+        pipe.sink().close();
+        while (decoder.read(actual::add) != -1) {
+            // drain
+        }
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Asserts {@link NonBlockingBitDecoder#read(NonBlockingBitDecoder.Handler)} throws an {@link EOFException} when
+     * the channel ends in the middle of a message.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertReadThrowsEOFExceptionWhenStreamEndsInMiddleOfMessage() throws IOException {
+        final List<Integer> message = new ArrayList<>();
+        message.add(1);
+        message.add(2);
+        final byte[] bytes = encode(Collections.singletonList(message));
+        final Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        final NonBlockingBitDecoder<List<Integer>> decoder = new NonBlockingBitDecoder<>(pipe.source(), DECODER, 16);
+        pipe.sink().write(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+        assertEquals(0, decoder.read(m -> {
+        }));
+        pipe.sink().close();
+        assertThrows(EOFException.class, () -> decoder.read(m -> {
+        }));
+    }
+
+    /**
+     * Asserts a single bit input is reused for all attempts, no attempt is made when no bytes are read, and messages
+     * left by a failed handler are decoded by the next invocation.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertBitInputReusedAndMessagesLeftByFailedHandlerDecoded() throws IOException {
+        final List<List<Integer>> expected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            expected.add(Collections.singletonList(i));
+        }
+        final byte[] bytes = encode(expected);
+        final Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        final List<BitInput> inputs = new ArrayList<>();
+        final NonBlockingBitDecoder<List<Integer>> decoder = new NonBlockingBitDecoder<>(pipe.source(), input -> {
+            inputs.add(input);
+            return DECODER.decode(input);
+        }, 1024);
+        pipe.sink().write(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+        final List<List<Integer>> actual = new ArrayList<>();
+        assertThrows(IOException.class, () -> decoder.read(m -> {
+            actual.add(m);
+            throw new IOException("failed");
+        }));
+        assertEquals(2, decoder.read(actual::add));
+        final int attempts = inputs.size();
+        assertEquals(0, decoder.read(actual::add));
+        assertEquals(attempts, inputs.size());
+        pipe.sink().write(ByteBuffer.wrap(bytes, bytes.length - 1, 1));
+        assertEquals(1, decoder.read(actual::add));
+        assertEquals(expected, actual);
+        for (final BitInput input : inputs) {
+            assertSame(inputs.get(0), input);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link PackedBlocks}.
+ */
+class PackedBlocksTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns random values around a base with occasional outliers and extremes.
+     *
+     * @param length the number of values.
+     * @return an array of values.
+     */
+    private static long[] values(final int length) {
+        final long base = current().nextLong() >> current().nextInt(Long.SIZE);
+        final int width = current().nextInt(Long.SIZE);
+        final long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            switch (current().nextInt(32)) {
+                case 0:
+                    values[i] = current().nextLong();
+                    break;
+                case 1:
+                    values[i] = current().nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE;
+                    break;
+                default:
+                    values[i] = base + (current().nextLong() >>> (Long.SIZE - 1 - width) >>> 1);
+                    break;
+            }
+        }
+        return values;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts blocks of small offsets with a few outliers, either small or large, take less bits than values of a fixed
+     * width.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertOutliersArePatched() throws IOException {
+        final int[] values = new int[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000_000 + current().nextInt(16);
+        }
+        for (int i = 0; i < 8; i++) {
+            values[current().nextInt(values.length)] = current().nextInt();
+        }
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        PackedBlocks.writeInts(output, values);
+        assertTrue(output.position() < values.length * 6L, "position: " + output.position());
+        output.align(1);
+        assertArrayEquals(values, PackedBlocks.readInts(new ArrayBitInput(output.toByteArray())));
+    }
+
+    /**
+     * Asserts blocks of each width, around those unpacked with unrolled methods, are read back with lengths which are
+     * not multiples of the group size.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertEachWidthReadBack() throws IOException {
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        for (int width = 0; width <= Integer.SIZE; width++) {
+            final long[] values = new long[current().nextInt(1, 300)];
+            final long reference = current().nextLong(1L << 40);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = reference + (width == 0 ? 0L : current().nextLong() >>> (Long.SIZE - width));
+            }
+            output.reset();
+            PackedBlocks.writeLongs(output, values);
+            output.align(1);
+            assertArrayEquals(values, PackedBlocks.readLongs(new ArrayBitInput(output.toByteArray())),
+                              "width: " + width);
+        }
+    }
+
+    /**
+     * Asserts illegal arguments are rejected.
+     */
+    @Test
+    void assertIllegalArgumentsRejected() {
+        final BitOutput output = new ByteArrayBitOutput();
+        assertThrows(IllegalArgumentException.class, () -> PackedBlocks.writeInts(output, 0, new int[0]));
+        assertThrows(IllegalArgumentException.class,
+                     () -> PackedBlocks.writeLongs(output, PackedBlocks.MAX_BLOCK_SIZE + 1, new long[0]));
+        assertThrows(NullPointerException.class, () -> PackedBlocks.writeInts(output, null));
+    }
+
+    /**
+     * Asserts arrays of random values are read back with random block sizes.
+     *
+     * @param bitOutput        a bit output to test with.
+     * @param bitInputSupplier a supplier for a bit input.
+     * @throws IOException if an I/O error occurs.
+     */
+    @ArgumentsSource(BitIoArgumentsProvider.class)
+    @ParameterizedTest
+    void assertValuesReadBack(final BitOutput bitOutput, final Supplier<BitInput> bitInputSupplier)
+            throws IOException {
+        final int count = 32;
+        final int[] blockSizes = new int[count];
+        final int[][] ints = new int[count][];
+        final long[][] longs = new long[count][];
+        for (int i = 0; i < count; i++) {
+            blockSizes[i] = current().nextBoolean() ? current().nextInt(1, 300) : 128 << current().nextInt(2);
+            longs[i] = values(current().nextInt(0, 1024));
+            ints[i] = new int[longs[i].length];
+            for (int j = 0; j < ints[i].length; j++) {
+                ints[i][j] = (int) (longs[i][j] >> current().nextInt(Integer.SIZE + 1));
+            }
+            PackedBlocks.writeInts(bitOutput, blockSizes[i], ints[i]);
+            PackedBlocks.writeLongs(bitOutput, blockSizes[i], longs[i]);
+        }
+        bitOutput.align(1);
+        final BitInput bitInput = bitInputSupplier.get();
+        for (int i = 0; i < count; i++) {
+            assertArrayEquals(ints[i], PackedBlocks.readInts(bitInput, blockSizes[i]));
+            assertArrayEquals(longs[i], PackedBlocks.readLongs(bitInput, blockSizes[i]));
+        }
+        bitInput.align(1);
+    }
+}
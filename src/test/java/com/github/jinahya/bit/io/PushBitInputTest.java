@@ -0,0 +1,117 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link PushBitInput}.
+ */
+class PushBitInputTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts a decoder checking {@link PushBitInput#available()} resumes from the exact bit where it stopped when fed
+     * in arbitrary chunks.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @RepeatedTest(8)
+    void assertDecodingResumesFromExactBit() throws IOException {
+        final byte[] array = new byte[65536];
+        current().nextBytes(array);
+        final int[] sizes = new int[8192];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = current().nextInt(1, Long.SIZE);
+        }
+        final PushBitInput input = new PushBitInput(current().nextInt(1, 64));
+        int decoded = 0;
+        long index = 0L;
+        for (int offset = 0; offset < array.length && decoded < sizes.length; ) {
+            final int length = Math.min(current().nextInt(0, 256), array.length - offset);
+            if (current().nextBoolean()) {
+                input.feed(array, offset, length);
+            } else {
+                input.feed(ByteBuffer.wrap(array, offset, length));
+            }
+            offset += length;
+            while (decoded < sizes.length && input.available() >= sizes[decoded]) { // no more data? wait for more
+                assertEquals(reference(array, index, sizes[decoded]), input.readLong(true, sizes[decoded]));
+                index += sizes[decoded++];
+                assertEquals(index, input.position());
+            }
+        }
+    }
+
+    /**
+     * Asserts reading more bits than available throws an {@link EOFException} without consuming any bit.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertReadThrowsEOFExceptionWithoutConsuming() throws IOException {
+        final byte[] array = new byte[16];
+        current().nextBytes(array);
+        final PushBitInput input = new PushBitInput(1);
+        input.feed(array, 0, 1);
+        assertEquals(reference(array, 0L, 3), input.readInt(true, 3));
+        assertThrows(EOFException.class, () -> input.readLong(true, 13));
+        assertThrows(EOFException.class, () -> input.peekInt(true, 13));
+        assertThrows(EOFException.class, () -> input.skip(13L));
+        assertEquals(3L, input.position());
+        input.feed(array, 1, 15);
+        assertEquals(reference(array, 3L, 13), input.readLong(true, 13));
+        assertEquals(16L, input.position());
+    }
+
+    /**
+     * Asserts {@link PushBitInput#reset()} rewinds to the mark even after bytes are fed.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertResetRewindsToMarkAcrossFeeds() throws IOException {
+        final byte[] array = new byte[4096];
+        current().nextBytes(array);
+        final PushBitInput input = new PushBitInput(1);
+        input.feed(array, 0, 2);
+        input.readInt(true, 5);
+        input.mark();
+        for (int offset = 2; offset < array.length; offset += 2) {
+            input.feed(array, offset, 2);
+            input.skip(input.available() - current().nextInt(0, 8));
+        }
+        input.reset();
+        assertEquals(5L, input.position());
+        assertEquals(reference(array, 5L, 31), input.readInt(true, 31));
+    }
+}
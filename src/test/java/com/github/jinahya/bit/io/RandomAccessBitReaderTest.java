@@ -0,0 +1,108 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link RandomAccessBitReader}.
+ */
+class RandomAccessBitReaderTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link RandomAccessBitReader#getBits(byte[], long, int)} and {@link RandomAccessBitReader#getBits(
+     * ByteBuffer, long, int)} read same bits as the reference does, including those near the end.
+     */
+    @RepeatedTest(16)
+    void assertGetBitsMatchesReference() {
+        final byte[] array = new byte[current().nextInt(9, 128)];
+        current().nextBytes(array);
+        final ByteBuffer big = ByteBuffer.wrap(array);
+        final ByteBuffer little = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(array.length);
+        direct.put(array).position(current().nextInt(0, array.length + 1));
+        for (int i = 0; i < 1024; i++) {
+            final int size = current().nextInt(1, Long.SIZE + 1);
+            final long bitOffset = current().nextLong(0L, array.length * 8L - size + 1);
+            final long expected = reference(array, bitOffset, size);
+            assertEquals(expected, RandomAccessBitReader.getBits(array, bitOffset, size));
+            assertEquals(expected, RandomAccessBitReader.getBits(big, bitOffset, size));
+            assertEquals(expected, RandomAccessBitReader.getBits(little, bitOffset, size));
+            assertEquals(expected, RandomAccessBitReader.getBits(direct, bitOffset, size));
+        }
+    }
+
+    /**
+     * Asserts {@link RandomAccessBitReader#getBits(byte[], long, int)} reads values written by {@link
+     * DefaultBitOutput}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertGetBitsReadsValuesWrittenByDefaultBitOutput() throws IOException {
+        final byte[] array = new byte[8192];
+        final DefaultBitOutput<ArrayByteOutput> output
+                = new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(array));
+        final List<long[]> written = new ArrayList<long[]>();
+        for (long bits = 0L; ; ) {
+            final int size = current().nextInt(1, Long.SIZE);
+            if (bits + size > (array.length - 1) * 8L) {
+                break;
+            }
+            final long value = current().nextLong() >>> (Long.SIZE - size);
+            output.writeLong(true, size, value);
+            written.add(new long[] {bits, size, value});
+            bits += size;
+        }
+        output.align(1);
+        for (final long[] triple : written) {
+            assertEquals(triple[2], RandomAccessBitReader.getBits(array, triple[0], (int) triple[1]));
+        }
+    }
+
+    /**
+     * Asserts {@link RandomAccessBitReader#getBits(byte[], long, int)} throws an {@link IndexOutOfBoundsException}
+     * for bits out of bounds.
+     */
+    @Test
+    void assertGetBitsThrowsIndexOutOfBoundsExceptionWhenOutOfBounds() {
+        final byte[] array = new byte[8];
+        assertThrows(IndexOutOfBoundsException.class, () -> RandomAccessBitReader.getBits(array, -1L, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> RandomAccessBitReader.getBits(array, 1L, Long.SIZE));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> RandomAccessBitReader.getBits(ByteBuffer.wrap(array, 0, 4), 0L, Integer.SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> RandomAccessBitReader.getBits(array, 0L, 0));
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link RandomAccessBitWriter}.
+ */
+class RandomAccessBitWriterTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Sets specified bits of given array one by one.
+     *
+     * @param array     the array.
+     * @param bitOffset the offset of the first bit.
+     * @param size      the number of bits.
+     * @param value     the value whose lower {@code size} bits are set.
+     */
+    static void reference(final byte[] array, final long bitOffset, final int size, final long value) {
+        for (int i = 0; i < size; i++) {
+            final long offset = bitOffset + i;
+            final int mask = 0x80 >> (offset % 8);
+            if (((value >> (size - i - 1)) & 1L) == 1L) {
+                array[(int) (offset / 8)] |= mask;
+            } else {
+                array[(int) (offset / 8)] &= ~mask;
+            }
+        }
+    }
+
+    private static byte[] array(final ByteBuffer buffer) {
+        final byte[] array = new byte[buffer.limit()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = buffer.get(i);
+        }
+        return array;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link RandomAccessBitWriter#setBits(byte[], long, int, long)} and {@link
+     * RandomAccessBitWriter#setBits(ByteBuffer, long, int, long)} set same bits as the reference does while preserving
+     * others.
+     */
+    @RepeatedTest(16)
+    void assertSetBitsMatchesReference() {
+        final byte[] expected = new byte[current().nextInt(9, 128)];
+        current().nextBytes(expected);
+        final byte[] array = expected.clone();
+        final ByteBuffer big = ByteBuffer.wrap(expected.clone());
+        final ByteBuffer little = ByteBuffer.wrap(expected.clone()).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        direct.put(expected).position(current().nextInt(0, expected.length + 1));
+        for (int i = 0; i < 1024; i++) {
+            final int size = current().nextInt(1, Long.SIZE + 1);
+            final long bitOffset = current().nextLong(0L, expected.length * 8L - size + 1);
+            final long value = current().nextLong();
+            reference(expected, bitOffset, size, value);
+            RandomAccessBitWriter.setBits(array, bitOffset, size, value);
+            RandomAccessBitWriter.setBits(big, bitOffset, size, value);
+            RandomAccessBitWriter.setBits(little, bitOffset, size, value);
+            RandomAccessBitWriter.setBits(direct, bitOffset, size, value);
+            assertArrayEquals(expected, array);
+            assertEquals(value & (-1L >>> (Long.SIZE - size)), RandomAccessBitReader.getBits(array, bitOffset, size));
+        }
+        assertArrayEquals(expected, array(big));
+        assertArrayEquals(expected, array(little));
+        assertArrayEquals(expected, array(direct));
+    }
+
+    /**
+     * Asserts fixed-width slots set in random order are read back in order by {@link DefaultBitInput}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertSlotsSetOutOfOrderAreReadInOrder() throws IOException {
+        final int width = current().nextInt(1, Long.SIZE);
+        final long[] values = new long[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextLong() >>> (Long.SIZE - width);
+        }
+        final List<Integer> slots = new ArrayList<Integer>();
+        for (int i = 0; i < values.length; i++) {
+            slots.add(i);
+        }
+        Collections.shuffle(slots);
+        final byte[] array = new byte[(int) ((values.length * (long) width + 7) / 8)];
+        for (final int slot : slots) {
+            RandomAccessBitWriter.setBits(array, slot * (long) width, width, values[slot]);
+        }
+        final BitInput input = new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(array));
+        for (final long value : values) {
+            assertEquals(value, input.readLong(true, width));
+        }
+    }
+
+    /**
+     * Asserts {@link RandomAccessBitWriter#setBits(byte[], long, int, long)} throws an {@link
+     * IndexOutOfBoundsException} for bits out of bounds.
+     */
+    @Test
+    void assertSetBitsThrowsIndexOutOfBoundsExceptionWhenOutOfBounds() {
+        final byte[] array = new byte[8];
+        assertThrows(IndexOutOfBoundsException.class, () -> RandomAccessBitWriter.setBits(array, -1L, 1, 0L));
+        assertThrows(IndexOutOfBoundsException.class, () -> RandomAccessBitWriter.setBits(array, 1L, Long.SIZE, 0L));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> RandomAccessBitWriter.setBits(ByteBuffer.wrap(array, 0, 4), 0L, Integer.SIZE + 1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> RandomAccessBitWriter.setBits(array, 0L, 0, 0L));
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static com.github.jinahya.bit.io.AbstractBitInputUnsigned64Test.reference;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link SegmentedBitInput}, {@link SegmentedBitOutput} and {@link BufferSegments}.
+ */
+class SegmentedBitIoTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static Stream<IntFunction<ByteBuffer>> buffers() {
+        return BufferBitIoTest.buffers();
+    }
+
+    private static ByteBuffer[] segments(final IntFunction<ByteBuffer> function, final int length,
+                                         final int segmentSize) {
+        final ByteBuffer[] segments = new ByteBuffer[(length + segmentSize - 1) / segmentSize];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = function.apply(Math.min(segmentSize, length - i * segmentSize));
+        }
+        return segments;
+    }
+
+    private static byte get(final ByteBuffer[] segments, final int index) {
+        return segments[index / segments[0].limit()].get(index % segments[0].limit());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts {@link BufferSegments#allocate(long, int, boolean)} lays out segments as required.
+     */
+    @Test
+    void assertAllocateLaysOutSegments() {
+        for (int i = 0; i < 128; i++) {
+            final long capacity = current().nextInt(0, 1024);
+            final int segmentSize = current().nextInt(1, 64);
+            final ByteBuffer[] segments = BufferSegments.allocate(capacity, segmentSize, current().nextBoolean());
+            assertEquals(capacity, BufferSegments.length(segments));
+            assertEquals(Math.min(capacity, segmentSize), (long) BufferSegments.requireValidSegments(segments));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BufferSegments.requireValidSegments(
+                new ByteBuffer[] {ByteBuffer.allocate(4), ByteBuffer.allocate(5)}));
+        assertThrows(IllegalArgumentException.class, () -> BufferSegments.requireValidSegments(
+                new ByteBuffer[] {ByteBuffer.allocate(4), ByteBuffer.allocate(3), ByteBuffer.allocate(3)}));
+    }
+
+    /**
+     * Asserts {@link SegmentedBitOutput} writes same bytes as {@link ArrayBitOutput} does, across the ends of
+     * segments.
+     *
+     * @param function a function for allocating a buffer of given capacity.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"buffers"})
+    @ParameterizedTest
+    void assertSegmentedBitOutputWritesSameBytesAsArrayBitOutput(final IntFunction<ByteBuffer> function)
+            throws IOException {
+        final byte[] expected = new byte[4096];
+        final ByteBuffer[] segments = segments(function, expected.length, current().nextInt(1, 32));
+        final ArrayBitOutput arrayOutput = new ArrayBitOutput(expected);
+        final SegmentedBitOutput segmentedOutput = new SegmentedBitOutput(segments);
+        while (segmentedOutput.position() + Long.SIZE * 2 < expected.length * 8L) {
+            if (current().nextInt(16) == 0) {
+                final int bytes = current().nextInt(1, 4);
+                assertEquals(arrayOutput.align(bytes), segmentedOutput.align(bytes));
+                continue;
+            }
+            final int size = current().nextInt(1, Long.SIZE);
+            final long value = current().nextLong();
+            arrayOutput.writeLong(true, size, value);
+            segmentedOutput.writeLong(true, size, value);
+            assertEquals(arrayOutput.position(), segmentedOutput.position());
+        }
+        assertEquals(arrayOutput.align(1), segmentedOutput.align(1));
+        final int length = (int) (segmentedOutput.position() / Byte.SIZE);
+        for (int i = 0; i < length; i++) {
+            assertEquals(expected[i], get(segments, i));
+        }
+        while (segmentedOutput.position() < expected.length * 8L) {
+            segmentedOutput.writeBoolean(true);
+        }
+        assertThrows(IOException.class, () -> segmentedOutput.writeBoolean(true));
+    }
+
+    /**
+     * Asserts {@link SegmentedBitInput} reads, peeks, skips and rewinds same bits as the reference does, across the
+     * ends of segments.
+     *
+     * @param function a function for allocating a buffer of given capacity.
+     * @throws IOException if an I/O error occurs.
+     */
+    @MethodSource({"buffers"})
+    @ParameterizedTest
+    void assertSegmentedBitInputMatchesReference(final IntFunction<ByteBuffer> function) throws IOException {
+        final byte[] array = new byte[4096];
+        current().nextBytes(array);
+        final ByteBuffer[] segments = segments(function, array.length, current().nextInt(1, 32));
+        for (int i = 0; i < array.length; i++) {
+            segments[i / segments[0].limit()].put(i % segments[0].limit(), array[i]);
+        }
+        final SegmentedBitInput input = new SegmentedBitInput(segments);
+        long marked = -1L;
+        while (input.position() + Long.SIZE < array.length * 8L) {
+            final long index = input.position();
+            switch (current().nextInt(8)) {
+                case 0:
+                    input.mark();
+                    marked = index;
+                    break;
+                case 1:
+                    if (marked >= 0L) {
+                        input.reset();
+                        assertEquals(marked, input.position());
+                    }
+                    break;
+                case 2:
+                    final int skipped = current().nextInt(0, Long.SIZE);
+                    input.skip(skipped);
+                    assertEquals(index + skipped, input.position());
+                    break;
+                case 3:
+                    final int peekSize = current().nextInt(1, Integer.SIZE);
+                    assertEquals(reference(array, index, peekSize), input.peekInt(true, peekSize));
+                    break;
+                default:
+                    final int size = current().nextInt(1, Long.SIZE);
+                    assertEquals(reference(array, index, size), input.readLong(true, size));
+                    break;
+            }
+        }
+        while (input.position() < array.length * 8L) {
+            final int size = (int) Math.min(Integer.SIZE, array.length * 8L - input.position());
+            assertEquals(reference(array, input.position(), size), input.readLong(true, size));
+        }
+        assertThrows(EOFException.class, input::readBoolean);
+        input.seek(0L);
+        assertEquals(reference(array, 0L, Long.SIZE - 1), input.readLong(true, Long.SIZE - 1));
+    }
+}
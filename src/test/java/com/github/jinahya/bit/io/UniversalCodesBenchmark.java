@@ -0,0 +1,117 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+
+/**
+ * A benchmark comparing decoding of Exp-Golomb codes by {@link UniversalCodes}, which counts leading zeros of peeked
+ * bits, against reading bits one by one. Run via {@link #main(String...)} on the test classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniversalCodesBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UniversalCodesBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final int COUNT = 65536;
+
+    private static long readExpGolombBitByBit(final BitInput input) throws IOException {
+        int zeros = 0;
+        while (!input.readBoolean()) {
+            zeros++;
+        }
+        return zeros == 0 ? 0L : (1L << zeros | input.readLong(true, zeros)) - 1L;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Setup
+    public void setup() throws IOException {
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        for (int i = 0; i < COUNT; i++) {
+            UniversalCodes.writeExpGolomb(output, 0, current().nextLong() >>> current().nextInt(40, Long.SIZE));
+        }
+        output.align(1);
+        array = output.toByteArray();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public void readBitByBitDefaultBitInput(final Blackhole blackhole) throws IOException {
+        final BitInput input = new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(array));
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(readExpGolombBitByBit(input));
+        }
+    }
+
+    @Benchmark
+    public void readUniversalCodesDefaultBitInput(final Blackhole blackhole) throws IOException {
+        final BitInput input = new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(array));
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(UniversalCodes.readExpGolomb(input, 0));
+        }
+    }
+
+    @Benchmark
+    public void readBitByBitArrayBitInput(final Blackhole blackhole) throws IOException {
+        final BitInput input = new ArrayBitInput(array);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(readExpGolombBitByBit(input));
+        }
+    }
+
+    @Benchmark
+    public void readUniversalCodesArrayBitInput(final Blackhole blackhole) throws IOException {
+        final BitInput input = new ArrayBitInput(array);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(UniversalCodes.readExpGolomb(input, 0));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private byte[] array;
+}
@@ -0,0 +1,188 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2019 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link UniversalCodes}.
+ */
+class UniversalCodesTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static String bits(final ByteArrayBitOutput output) throws IOException {
+        final long size = output.position();
+        output.align(1);
+        final BitInput input = new ArrayBitInput(output.toByteArray());
+        final StringBuilder builder = new StringBuilder();
+        for (long i = 0L; i < size; i++) {
+            builder.append(input.readBoolean() ? '1' : '0');
+        }
+        return builder.toString();
+    }
+
+    private static long positive() {
+        return Math.max(current().nextLong() >>> current().nextInt(1, Long.SIZE), 1L);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts codes of known values.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertKnownCodes() throws IOException {
+        final String[] ue = {"1", "010", "011", "00100", "00101", "00110", "00111", "0001000"};
+        for (int i = 0; i < ue.length; i++) {
+            final ByteArrayBitOutput output = new ByteArrayBitOutput();
+            assertEquals(ue[i].length(), UniversalCodes.writeExpGolomb(output, 0, i));
+            assertEquals(ue[i], bits(output));
+        }
+        final long[] se = {0L, 1L, -1L, 2L, -2L, 3L, -3L, 4L};
+        for (int i = 0; i < se.length; i++) {
+            final ByteArrayBitOutput output = new ByteArrayBitOutput();
+            UniversalCodes.writeSignedExpGolomb(output, 0, se[i]);
+            assertEquals(ue[i], bits(output));
+        }
+        final String[] gamma = {"1", "010", "011", "00100", "00101"};
+        final String[] delta = {"1", "0100", "0101", "01100", "01101"};
+        for (int i = 0; i < gamma.length; i++) {
+            final ByteArrayBitOutput gammaOutput = new ByteArrayBitOutput();
+            assertEquals(gamma[i].length(), UniversalCodes.writeEliasGamma(gammaOutput, i + 1));
+            assertEquals(gamma[i], bits(gammaOutput));
+            final ByteArrayBitOutput deltaOutput = new ByteArrayBitOutput();
+            assertEquals(delta[i].length(), UniversalCodes.writeEliasDelta(deltaOutput, i + 1));
+            assertEquals(delta[i], bits(deltaOutput));
+        }
+        final String[] golomb3 = {"10", "110", "111", "010", "0110", "0111", "0010"};
+        for (int i = 0; i < golomb3.length; i++) {
+            final ByteArrayBitOutput output = new ByteArrayBitOutput();
+            assertEquals(golomb3[i].length(), UniversalCodes.writeGolomb(output, 3L, i));
+            assertEquals(golomb3[i], bits(output));
+        }
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        assertEquals(5L, UniversalCodes.writeRice(output, 2, 9L));
+        assertEquals("00101", bits(output));
+    }
+
+    /**
+     * Asserts illegal arguments are rejected.
+     */
+    @Test
+    void assertIllegalArgumentsRejected() {
+        final BitOutput output = new ByteArrayBitOutput();
+        assertThrows(IllegalArgumentException.class, () -> UniversalCodes.writeEliasGamma(output, 0L));
+        assertThrows(IllegalArgumentException.class, () -> UniversalCodes.writeEliasDelta(output, -1L));
+        assertThrows(IllegalArgumentException.class, () -> UniversalCodes.writeExpGolomb(output, 0, -1L));
+        assertThrows(IllegalArgumentException.class, () -> UniversalCodes.writeExpGolomb(output, 63, 0L));
+        assertThrows(IllegalArgumentException.class, () -> UniversalCodes.writeExpGolomb(output, 1, Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> UniversalCodes.writeGolomb(output, 0L, 0L));
+        assertThrows(IllegalArgumentException.class, () -> UniversalCodes.writeRice(output, -1, 0L));
+        assertThrows(IllegalArgumentException.class,
+                     () -> UniversalCodes.writeGolomb(output, UniversalCodes.MAX_GOLOMB_PARAMETER + 1L, 0L));
+        assertThrows(IllegalArgumentException.class,
+                     () -> UniversalCodes.readGolomb(new ArrayBitInput(new byte[16]), Long.MAX_VALUE));
+    }
+
+    /**
+     * Asserts codes of values overflowing a {@code long} are rejected with {@link IOException}s.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void assertOverflowingValuesRejected() throws IOException {
+        final ByteArrayBitOutput output = new ByteArrayBitOutput();
+        output.writeInt(true, 3, 1); // a quotient of two
+        output.writeLong(true, 63, 0L);
+        output.writeInt(true, Integer.SIZE - 1, 0); // some byte inputs don't throw EOFException for peeks
+        output.align(1);
+        final byte[] bytes = output.toByteArray();
+        assertThrows(IOException.class, () -> UniversalCodes.readRice(new ArrayBitInput(bytes), 62));
+        assertThrows(IOException.class,
+                     () -> UniversalCodes.readGolomb(new ArrayBitInput(bytes), UniversalCodes.MAX_GOLOMB_PARAMETER));
+        assertEquals(2L << 61, UniversalCodes.readRice(new ArrayBitInput(bytes), 61));
+        assertEquals(2L * (UniversalCodes.MAX_GOLOMB_PARAMETER - 1L),
+                     UniversalCodes.readGolomb(new ArrayBitInput(bytes), UniversalCodes.MAX_GOLOMB_PARAMETER - 1L));
+    }
+
+    /**
+     * Asserts all codes of random values are read back, and codes with long runs of zeros near the end of inputs which
+     * throw {@link java.io.EOFException}s for peeks.
+     *
+     * @param bitOutput        a bit output to test with.
+     * @param bitInputSupplier a supplier for a bit input.
+     * @throws IOException if an I/O error occurs.
+     */
+    @ArgumentsSource(BitIoArgumentsProvider.class)
+    @ParameterizedTest
+    void assertCodesReadBack(final BitOutput bitOutput, final Supplier<BitInput> bitInputSupplier)
+            throws IOException {
+        final int count = 256;
+        final long[] values = new long[count];
+        final int[] ks = new int[count];
+        final long[] ms = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = positive();
+            ks[i] = current().nextInt(0, Long.SIZE - 1);
+            ms[i] = Math.max(positive() >>> 1, 1L); // at most MAX_GOLOMB_PARAMETER
+            UniversalCodes.writeEliasGamma(bitOutput, values[i]);
+            UniversalCodes.writeEliasDelta(bitOutput, values[i]);
+            UniversalCodes.writeExpGolomb(bitOutput, ks[i], values[i] >>> 1);
+            UniversalCodes.writeSignedExpGolomb(bitOutput, ks[i], (values[i] >> 2) * (i % 2 == 0 ? 1 : -1));
+            UniversalCodes.writeGolomb(bitOutput, ms[i], values[i] % (ms[i] * 128L));
+            UniversalCodes.writeRice(bitOutput, ks[i], values[i] & ((1L << ks[i] << 7) - 1L));
+        }
+        bitOutput.writeInt(true, Integer.SIZE - 1, 0); // some byte inputs don't throw EOFException for peeks
+        bitOutput.align(1);
+        final BitInput bitInput = bitInputSupplier.get();
+        for (int i = 0; i < count; i++) {
+            assertEquals(values[i], UniversalCodes.readEliasGamma(bitInput));
+            assertEquals(values[i], UniversalCodes.readEliasDelta(bitInput));
+            assertEquals(values[i] >>> 1, UniversalCodes.readExpGolomb(bitInput, ks[i]));
+            assertEquals((values[i] >> 2) * (i % 2 == 0 ? 1 : -1), UniversalCodes.readSignedExpGolomb(bitInput, ks[i]));
+            assertEquals(values[i] % (ms[i] * 128L), UniversalCodes.readGolomb(bitInput, ms[i]));
+            assertEquals(values[i] & ((1L << ks[i] << 7) - 1L), UniversalCodes.readRice(bitInput, ks[i]));
+        }
+        bitInput.align(1);
+        final ByteArrayBitOutput tail = new ByteArrayBitOutput();
+        UniversalCodes.writeRice(tail, 0, 100L);
+        UniversalCodes.writeEliasGamma(tail, 1L << 40);
+        tail.align(1);
+        for (final BitInput tailInput : new BitInput[] {
+                new ArrayBitInput(tail.toByteArray()),
+                new DefaultBitInput<>(new StreamByteInput<>(new ByteArrayInputStream(tail.toByteArray())))}) {
+            assertEquals(100L, UniversalCodes.readRice(tailInput, 0));
+            assertEquals(1L << 40, UniversalCodes.readEliasGamma(tailInput));
+        }
+    }
+}